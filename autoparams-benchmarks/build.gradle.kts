@@ -0,0 +1,43 @@
+import org.gradle.api.tasks.javadoc.Javadoc
+
+plugins {
+    java
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+dependencies {
+    jmh(project(":autoparams"))
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_17
+    targetCompatibility = JavaVersion.VERSION_17
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    benchmarkMode.set(listOf("thrpt"))
+    timeUnit.set("s")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+    includes.set(listOfNotNull(findProperty("jmhIncludes") as String?))
+}
+
+tasks.named<Jar>("jar") {
+    enabled = false
+}
+
+tasks.named("publish") {
+    enabled = false
+}
+
+tasks.named("publishToMavenLocal") {
+    enabled = false
+}
+
+tasks.named<Javadoc>("javadoc") {
+    enabled = false
+}
@@ -0,0 +1,76 @@
+package autoparams.benchmarks;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+
+import autoparams.AutoArgumentsProvider;
+import autoparams.Repeat;
+import autoparams.benchmarks.Fixtures.Order;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link AutoArgumentsProvider#provideArguments(ExtensionContext)}
+ * for a test method annotated with {@link Repeat @Repeat}, including the
+ * generation of every test case.
+ */
+@State(Scope.Thread)
+public class ArgumentsProviderBenchmark {
+
+    private AutoArgumentsProvider provider;
+    private ExtensionContext extensionContext;
+
+    @Repeat(10)
+    public void testMethod(Order order, String name, int quantity) {
+    }
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        provider = new AutoArgumentsProvider();
+        extensionContext = createExtensionContext(getClass().getMethod(
+            "testMethod",
+            Order.class,
+            String.class,
+            int.class
+        ));
+    }
+
+    private static ExtensionContext createExtensionContext(Method method) {
+        return (ExtensionContext) Proxy.newProxyInstance(
+            ExtensionContext.class.getClassLoader(),
+            new Class<?>[] { ExtensionContext.class },
+            (proxy, invoked, args) -> {
+                switch (invoked.getName()) {
+                    case "getRequiredTestMethod":
+                        return method;
+                    case "getRequiredTestClass":
+                        return method.getDeclaringClass();
+                    case "getTestMethod":
+                        return Optional.of(method);
+                    case "getTestClass":
+                        return Optional.of(method.getDeclaringClass());
+                    case "getElement":
+                        return Optional.of(method);
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    default:
+                        return invoked.getReturnType() == Optional.class
+                            ? Optional.empty()
+                            : null;
+                }
+            }
+        );
+    }
+
+    @Benchmark
+    public void provideArguments(Blackhole blackhole) throws Exception {
+        provider.provideArguments(extensionContext).forEach(blackhole::consume);
+    }
+}
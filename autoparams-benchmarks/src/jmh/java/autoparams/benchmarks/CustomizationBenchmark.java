@@ -0,0 +1,46 @@
+package autoparams.benchmarks;
+
+import autoparams.ResolutionContext;
+import autoparams.benchmarks.Fixtures.Order;
+import autoparams.generator.ObjectContainer;
+import autoparams.generator.ObjectGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures how the number of customizers applied to a
+ * {@link ResolutionContext} affects resolution.
+ * <p>
+ * Each customizer adds a generator that declines every query, so every
+ * resolution passes through all of them before reaching the default
+ * generators.
+ * </p>
+ */
+@State(Scope.Thread)
+public class CustomizationBenchmark {
+
+    @Param({ "0", "5", "20" })
+    private int customizers;
+
+    private ResolutionContext context;
+
+    @Setup
+    public void setUp() {
+        context = new ResolutionContext();
+        for (int i = 0; i < customizers; i++) {
+            context.applyCustomizer(decline());
+        }
+    }
+
+    private static ObjectGenerator decline() {
+        return (query, context) -> ObjectContainer.EMPTY;
+    }
+
+    @Benchmark
+    public Order resolve() {
+        return context.resolve(Order.class);
+    }
+}
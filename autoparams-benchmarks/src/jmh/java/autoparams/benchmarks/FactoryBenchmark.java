@@ -0,0 +1,33 @@
+package autoparams.benchmarks;
+
+import java.util.List;
+
+import autoparams.benchmarks.Fixtures.Customer;
+import autoparams.generator.Factory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link Factory#get(int)} for different numbers of objects.
+ */
+@State(Scope.Thread)
+public class FactoryBenchmark {
+
+    @Param({ "1", "10", "100" })
+    private int count;
+
+    private Factory<Customer> factory;
+
+    @Setup
+    public void setUp() {
+        factory = Factory.create(Customer.class);
+    }
+
+    @Benchmark
+    public List<Customer> get() {
+        return factory.get(count);
+    }
+}
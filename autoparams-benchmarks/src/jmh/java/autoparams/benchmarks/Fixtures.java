@@ -0,0 +1,49 @@
+package autoparams.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Provides the types that the benchmarks resolve.
+ */
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    public record Address(String street, String city, String zipCode) {
+    }
+
+    public record Customer(UUID id, String name, Address address) {
+    }
+
+    public record OrderLine(UUID productId, int quantity, BigDecimal price) {
+    }
+
+    public record Order(
+        UUID id,
+        Customer customer,
+        List<OrderLine> lines,
+        Map<String, String> attributes,
+        Instant placedAt
+    ) {
+    }
+
+    public record Pair<A, B>(A first, B second) {
+    }
+
+    public sealed interface Event permits Created, Renamed, Deleted {
+    }
+
+    public record Created(UUID id, String name, Instant at) implements Event {
+    }
+
+    public record Renamed(UUID id, String name, Instant at) implements Event {
+    }
+
+    public record Deleted(UUID id, Instant at) implements Event {
+    }
+}
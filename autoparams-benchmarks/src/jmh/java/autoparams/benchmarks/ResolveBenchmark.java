@@ -0,0 +1,81 @@
+package autoparams.benchmarks;
+
+import java.util.List;
+
+import autoparams.ResolutionContext;
+import autoparams.benchmarks.Fixtures.Address;
+import autoparams.benchmarks.Fixtures.Customer;
+import autoparams.benchmarks.Fixtures.Event;
+import autoparams.benchmarks.Fixtures.Order;
+import autoparams.benchmarks.Fixtures.Pair;
+import autoparams.type.TypeReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link ResolutionContext#resolve(Class)} for representative kinds
+ * of types.
+ */
+@State(Scope.Thread)
+public class ResolveBenchmark {
+
+    private static final TypeReference<Pair<String, Customer>> PAIR =
+        new TypeReference<Pair<String, Customer>>() { };
+
+    private static final TypeReference<List<Address>> ADDRESSES =
+        new TypeReference<List<Address>>() { };
+
+    private ResolutionContext context;
+
+    @Setup
+    public void setUp() {
+        context = new ResolutionContext();
+    }
+
+    @Benchmark
+    public int resolvePrimitive() {
+        return context.resolve(int.class);
+    }
+
+    @Benchmark
+    public int resolveUnboxedPrimitive() {
+        return context.resolveInt();
+    }
+
+    @Benchmark
+    public double[] resolvePrimitiveArray() {
+        return context.resolve(double[].class);
+    }
+
+    @Benchmark
+    public String resolveString() {
+        return context.resolve(String.class);
+    }
+
+    @Benchmark
+    public Address resolveRecord() {
+        return context.resolve(Address.class);
+    }
+
+    @Benchmark
+    public Order resolveDeepGraph() {
+        return context.resolve(Order.class);
+    }
+
+    @Benchmark
+    public Pair<String, Customer> resolveGeneric() {
+        return context.resolve(PAIR);
+    }
+
+    @Benchmark
+    public List<Address> resolveCollection() {
+        return context.resolve(ADDRESSES);
+    }
+
+    @Benchmark
+    public Event resolveSealedType() {
+        return context.resolve(Event.class);
+    }
+}
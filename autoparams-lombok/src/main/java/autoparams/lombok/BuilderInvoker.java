@@ -1,21 +1,43 @@
 package autoparams.lombok;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import autoparams.ObjectQuery;
 import autoparams.ParameterQuery;
 import autoparams.ResolutionContext;
 import autoparams.generator.ObjectContainer;
 import autoparams.generator.ObjectGenerator;
-
-import static java.util.Arrays.stream;
+import autoparams.internal.reflect.ArgumentTypes;
+import autoparams.internal.reflect.ClassModel;
 
 class BuilderInvoker implements ObjectGenerator {
 
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(
+        Object.class,
+        Object.class,
+        Object[].class
+    );
+
+    private static final ClassValue<Map<Method, Optional<MethodHandle>>>
+        HANDLES = new ClassValue<Map<Method, Optional<MethodHandle>>>() {
+
+            @Override
+            protected Map<Method, Optional<MethodHandle>> computeValue(
+                Class<?> type
+            ) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
     private final String builderMethodName;
     private final String buildMethodName;
 
@@ -42,7 +64,7 @@ class BuilderInvoker implements ObjectGenerator {
     }
 
     private Optional<Object> getBuilder(Class<?> type) {
-        return stream(type.getDeclaredMethods())
+        return ClassModel.of(type).getDeclaredMethods().stream()
             .filter(method -> method.getName().equals(builderMethodName))
             .filter(method -> Modifier.isStatic(method.getModifiers()))
             .map(method -> invoke(null, method))
@@ -58,7 +80,7 @@ class BuilderInvoker implements ObjectGenerator {
         Object builder,
         ResolutionContext context
     ) {
-        stream(builder.getClass().getDeclaredMethods())
+        ClassModel.of(builder.getClass()).getDeclaredMethods().stream()
             .filter(method -> method.getParameterCount() == 1)
             .forEach(setter -> setProperty(builder, setter, context));
     }
@@ -88,12 +110,52 @@ class BuilderInvoker implements ObjectGenerator {
     }
 
     private static Object invoke(Object obj, Method method, Object... args) {
+        Optional<MethodHandle> handle = HANDLES
+            .get(method.getDeclaringClass())
+            .computeIfAbsent(method, BuilderInvoker::unreflect);
         try {
-            return method.invoke(obj, args);
+            return handle.isPresent()
+                ? invoke(handle.get(), method, obj, args)
+                : method.invoke(obj, args);
         } catch (IllegalAccessException |
                  IllegalArgumentException |
                  InvocationTargetException exception) {
             throw new RuntimeException(exception);
         }
     }
+
+    private static Object invoke(
+        MethodHandle handle,
+        Method method,
+        Object obj,
+        Object[] args
+    ) throws InvocationTargetException {
+        // Arguments are checked first so that only exceptions thrown by the
+        // method are wrapped, as they are by reflection.
+        if (Modifier.isStatic(method.getModifiers()) == false) {
+            ArgumentTypes.checkTarget(method.getDeclaringClass(), obj);
+        }
+
+        ArgumentTypes.check(method.getParameterTypes(), args);
+        try {
+            return (Object) handle.invokeExact(obj, args);
+        } catch (Throwable throwable) {
+            throw new InvocationTargetException(throwable);
+        }
+    }
+
+    private static Optional<MethodHandle> unreflect(Method method) {
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+
+            return Optional.of(handle
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(INVOKER_TYPE));
+        } catch (IllegalAccessException | RuntimeException exception) {
+            return Optional.empty();
+        }
+    }
 }
@@ -20,12 +20,31 @@ dependencies {
     testAnnotationProcessor("org.projectlombok:lombok:1.18.30")
 }
 
+val java11: SourceSet by sourceSets.creating {
+    java.setSrcDirs(listOf("src/main/java11"))
+    compileClasspath += sourceSets.main.get().output
+    compileClasspath += sourceSets.main.get().compileClasspath
+}
+
+tasks.named<JavaCompile>(java11.compileJavaTaskName) {
+    options.release.set(11)
+}
+
 tasks.test {
     useJUnitPlatform()
 }
 
+tasks.jar {
+    into("META-INF/versions/11") {
+        from(java11.output)
+    }
+    manifest {
+        attributes("Multi-Release" to "true")
+    }
+}
+
 tasks.build {
-    dependsOn("checkstyleMain", "checkstyleTest", "jar")
+    dependsOn("checkstyleMain", "checkstyleJava11", "checkstyleTest", "jar")
 }
 
 java {
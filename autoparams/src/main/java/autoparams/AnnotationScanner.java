@@ -2,22 +2,49 @@ package autoparams;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Member;
+import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
+import static java.util.Arrays.asList;
+
 final class AnnotationScanner {
 
+    private static final ClassValue<Map<List<Object>, List<?>>> CACHE =
+        new ClassValue<Map<List<Object>, List<?>>>() {
+
+            @Override
+            protected Map<List<Object>, List<?>> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+    @SuppressWarnings("unchecked")
     public static <T extends Annotation> List<Edge<T>> scanAnnotations(
         AnnotatedElement element,
         Class<T> annotationType
     ) {
-        ScanContext<T> context = new ScanContext<>(annotationType);
-        scanAnnotations(element, null, context);
-        return Collections.unmodifiableList(context.edges);
+        Class<?> owner = getOwner(element);
+        if (owner == null) {
+            return scan(element, annotationType);
+        }
+
+        Map<List<Object>, List<?>> cache = CACHE.get(owner);
+        List<Object> key = asList(element, annotationType);
+        List<?> edges = cache.get(key);
+        if (edges == null) {
+            edges = scan(element, annotationType);
+            cache.putIfAbsent(key, edges);
+        }
+
+        return (List<Edge<T>>) edges;
     }
 
     public static List<Edge<Annotation>> scanAnnotations(
@@ -43,6 +70,28 @@ final class AnnotationScanner {
         }
     }
 
+    private static Class<?> getOwner(AnnotatedElement element) {
+        if (element instanceof Class<?>) {
+            return (Class<?>) element;
+        } else if (element instanceof Member) {
+            return ((Member) element).getDeclaringClass();
+        } else if (element instanceof Parameter) {
+            Parameter parameter = (Parameter) element;
+            return parameter.getDeclaringExecutable().getDeclaringClass();
+        } else {
+            return null;
+        }
+    }
+
+    private static <T extends Annotation> List<Edge<T>> scan(
+        AnnotatedElement element,
+        Class<T> annotationType
+    ) {
+        ScanContext<T> context = new ScanContext<>(annotationType);
+        scanAnnotations(element, null, context);
+        return Collections.unmodifiableList(context.edges);
+    }
+
     private static final class ScanContext<T extends Annotation> {
 
         private final Class<T> annotationType;
@@ -0,0 +1,301 @@
+package autoparams;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * A {@link LogWriter} that writes messages to another {@link LogWriter} on a
+ * background thread.
+ * <p>
+ * Messages are stored in a bounded buffer and written to the delegate writer
+ * by a daemon thread in the order in which they were written, so the threads
+ * that resolve objects do not wait for the output. When a
+ * {@link ResolutionContext} logs through this writer, it converts the resolved
+ * values to strings as soon as a resolution completes and defers only the
+ * assembly of the log lines to the background thread.
+ * </p>
+ * <p>
+ * If the delegate writer throws an exception, the message is counted in
+ * {@link #getFailedCount()}, the exception is reported to the uncaught
+ * exception handler of the background thread, and the following messages are
+ * still written.
+ * </p>
+ * <p>
+ * When the buffer is full, {@link OverflowPolicy#BLOCK} makes the writing
+ * thread wait for free space, and {@link OverflowPolicy#DROP} discards the
+ * message and counts it in {@link #getDroppedCount()}.
+ * </p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>
+ * AsyncLogWriter logWriter = new AsyncLogWriter(System.out::println);
+ * ResolutionContext context = new ResolutionContext(
+ *     ObjectGenerator.DEFAULT,
+ *     ObjectProcessor.DEFAULT,
+ *     logWriter
+ * );
+ * context.enableLogging();
+ * context.resolve(Order.class);
+ * logWriter.flush();
+ * </pre>
+ *
+ * @see LogResolution#async()
+ */
+public final class AsyncLogWriter implements LogWriter, AutoCloseable {
+
+    /**
+     * The capacity of the buffer used by {@link #AsyncLogWriter(LogWriter)}.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final Consumer<LogWriter> STOP = writer -> { };
+
+    private final LogWriter delegate;
+    private final OverflowPolicy overflowPolicy;
+    private final BlockingQueue<Consumer<LogWriter>> buffer;
+    private final Thread worker;
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final Object progress = new Object();
+    private final Object writeLock = new Object();
+    private final ReadWriteLock closing = new ReentrantReadWriteLock();
+    private long completed = 0;
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a new {@link AsyncLogWriter} with the specified delegate writer,
+     * buffer capacity, and overflow policy.
+     *
+     * @param delegate       the writer that outputs the messages.
+     * @param capacity       the maximum number of messages waiting to be
+     *                       written.
+     * @param overflowPolicy the behavior when the buffer is full.
+     * @throws IllegalArgumentException if {@code delegate} or
+     *                                  {@code overflowPolicy} is {@code null},
+     *                                  or if {@code capacity} is not positive.
+     */
+    public AsyncLogWriter(
+        LogWriter delegate,
+        int capacity,
+        OverflowPolicy overflowPolicy
+    ) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("The argument 'delegate' is null.");
+        }
+
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The argument 'capacity' is not positive.");
+        }
+
+        if (overflowPolicy == null) {
+            throw new IllegalArgumentException("The argument 'overflowPolicy' is null.");
+        }
+
+        this.delegate = delegate;
+        this.overflowPolicy = overflowPolicy;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.worker = new Thread(this::run, "autoparams-log-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Creates a new {@link AsyncLogWriter} with the specified delegate writer,
+     * a buffer of {@link #DEFAULT_CAPACITY}, and {@link OverflowPolicy#BLOCK}.
+     *
+     * @param delegate the writer that outputs the messages.
+     * @throws IllegalArgumentException if {@code delegate} is {@code null}.
+     */
+    public AsyncLogWriter(LogWriter delegate) {
+        this(delegate, DEFAULT_CAPACITY, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Writes the specified message on the background thread.
+     * <p>
+     * After this writer is closed, or if its background thread has stopped,
+     * messages are written on the calling thread.
+     * </p>
+     *
+     * @param message the log message to write.
+     */
+    @Override
+    public void write(String message) {
+        defer(writer -> writer.write(message));
+    }
+
+    void defer(Consumer<LogWriter> record) {
+        // close() takes the write lock, so a record is either buffered before
+        // the final drain or written here after closed is set.
+        closing.readLock().lock();
+        try {
+            if (closed || worker.isAlive() == false) {
+                writeRecord(record);
+            } else if (enqueue(record)) {
+                submitted.incrementAndGet();
+            }
+        } finally {
+            closing.readLock().unlock();
+        }
+    }
+
+    private boolean enqueue(Consumer<LogWriter> record) {
+        if (overflowPolicy == OverflowPolicy.DROP) {
+            if (buffer.offer(record) == false) {
+                dropped.incrementAndGet();
+                return false;
+            }
+
+            return true;
+        }
+
+        try {
+            while (buffer.offer(record, 100, TimeUnit.MILLISECONDS) == false) {
+                if (worker.isAlive() == false) {
+                    writeRecord(record);
+                    return false;
+                }
+            }
+
+            return true;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            dropped.incrementAndGet();
+            return false;
+        }
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                Consumer<LogWriter> record = buffer.take();
+                if (record == STOP) {
+                    return;
+                }
+
+                writeRecord(record);
+                synchronized (progress) {
+                    completed++;
+                    progress.notifyAll();
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeRecord(Consumer<LogWriter> record) {
+        try {
+            synchronized (writeLock) {
+                record.accept(delegate);
+            }
+        } catch (Throwable exception) {
+            // A failure of the delegate must not stop the background thread.
+            failed.incrementAndGet();
+            report(exception);
+        }
+    }
+
+    private void report(Throwable exception) {
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(
+            thread,
+            exception
+        );
+    }
+
+    /**
+     * Waits until the messages written before this call have been written to
+     * the delegate writer.
+     *
+     * @throws InterruptedException if the current thread is interrupted while
+     *                              waiting.
+     */
+    public void flush() throws InterruptedException {
+        long target = submitted.get();
+        synchronized (progress) {
+            while (completed < target && worker.isAlive()) {
+                progress.wait(100);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of messages discarded because the buffer was full.
+     *
+     * @return the number of discarded messages.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Returns the number of messages that the delegate writer failed to write.
+     *
+     * @return the number of failed messages.
+     */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    /**
+     * Writes the pending messages and stops the background thread.
+     * <p>
+     * Messages written after this method is called are written on the calling
+     * thread.
+     * </p>
+     */
+    @Override
+    public void close() {
+        closing.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+        } finally {
+            closing.writeLock().unlock();
+        }
+
+        try {
+            buffer.put(STOP);
+            worker.join();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            worker.interrupt();
+        }
+
+        List<Consumer<LogWriter>> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        for (Consumer<LogWriter> record : remaining) {
+            if (record != STOP) {
+                writeRecord(record);
+            }
+        }
+    }
+
+    /**
+     * Specifies what an {@link AsyncLogWriter} does when its buffer is full.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * Makes the writing thread wait until the buffer has free space.
+         */
+        BLOCK,
+
+        /**
+         * Discards the message.
+         */
+        DROP
+    }
+}
@@ -1,7 +1,7 @@
 package autoparams;
 
 import java.lang.reflect.Method;
-import java.util.List;
+import java.util.Iterator;
 import java.util.stream.Stream;
 
 import autoparams.AnnotationScanner.Edge;
@@ -10,7 +10,9 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 
 import static autoparams.AnnotationScanner.scanAnnotations;
-import static java.util.stream.Collectors.toList;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
+import static java.util.stream.StreamSupport.stream;
 
 /**
  * An implementation of {@link ArgumentsProvider} that automatically generates
@@ -31,10 +33,13 @@ import static java.util.stream.Collectors.toList;
  * <p>
  * It also handles test repetition through the {@link Repeat} annotation,
  * allowing tests to be executed multiple times with different generated values.
+ * Test cases can be generated ahead of their execution on a worker thread
+ * through the {@link Prefetch} annotation.
  * </p>
  *
  * @see AutoSource
  * @see Repeat
+ * @see Prefetch
  * @see ValueAutoArgumentsProvider
  * @see CsvAutoArgumentsProvider
  * @see MethodAutoArgumentsProvider
@@ -78,10 +83,23 @@ public class AutoArgumentsProvider implements ArgumentsProvider {
      * Provides arguments for a parameterized test.
      * <p>
      * This method processes any {@link Repeat} annotations to determine how
-     * many times the test should be executed, collects initial arguments from
+     * many times the test should be executed, reads initial arguments from
      * the asset provider, and then generates any missing arguments to complete
      * each test case.
      * </p>
+     * <p>
+     * Test cases are generated lazily, one at a time, as the returned stream
+     * is consumed. Arguments of a test case are therefore not created until
+     * the test is about to be executed with them, and they can be reclaimed
+     * once it has completed. Closing the returned stream closes the stream of
+     * the asset provider.
+     * </p>
+     * <p>
+     * If the test method is annotated with {@link Prefetch}, a worker thread
+     * generates up to the specified number of test cases ahead of the
+     * consumer of the returned stream. Closing the returned stream stops the
+     * worker thread.
+     * </p>
      *
      * @param context the current extension context
      * @return a stream of arguments for parameterized test execution
@@ -92,14 +110,28 @@ public class AutoArgumentsProvider implements ArgumentsProvider {
         ExtensionContext context
     ) throws Exception {
         int repetition = getRepetition(context);
-        Stream.Builder<Arguments> stream = Stream.builder();
-        for (Arguments asset : getAssets(context)) {
-            for (int i = 0; i < repetition; i++) {
-                stream.accept(getTestCase(context, asset));
-            }
+        TestResolutionContext template =
+            TestResolutionContext.createTemplate(context);
+        Stream<? extends Arguments> assets = getAssets(context);
+        Iterator<Arguments> testCases = new TestCaseIterator(
+            template,
+            assets.iterator(),
+            repetition
+        );
+
+        int prefetch = getPrefetch(context);
+        if (prefetch > 0) {
+            TestCasePrefetcher prefetcher = TestCasePrefetcher.start(
+                testCases,
+                prefetch
+            );
+            return stream(spliteratorUnknownSize(prefetcher, ORDERED), false)
+                .onClose(prefetcher::close)
+                .onClose(assets::close);
         }
 
-        return stream.build();
+        return stream(spliteratorUnknownSize(testCases, ORDERED), false)
+            .onClose(assets::close);
     }
 
     private static int getRepetition(ExtensionContext context) {
@@ -112,15 +144,18 @@ public class AutoArgumentsProvider implements ArgumentsProvider {
         return Math.max(1, repetition);
     }
 
-    private List<? extends Arguments> getAssets(ExtensionContext context)
-        throws Exception {
-        return assetProvider.provideArguments(context).collect(toList());
+    private static int getPrefetch(ExtensionContext context) {
+        int prefetch = 0;
+        Method method = context.getRequiredTestMethod();
+        for (Edge<Prefetch> edge : scanAnnotations(method, Prefetch.class)) {
+            prefetch = Math.max(prefetch, edge.getCurrent().value());
+        }
+
+        return prefetch;
     }
 
-    private static Arguments getTestCase(
-        ExtensionContext context,
-        Arguments asset
-    ) {
-        return TestResolutionContext.create(context).getTestCase(asset);
+    private Stream<? extends Arguments> getAssets(ExtensionContext context)
+        throws Exception {
+        return assetProvider.provideArguments(context);
     }
 }
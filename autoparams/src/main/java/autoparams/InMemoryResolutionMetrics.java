@@ -0,0 +1,103 @@
+package autoparams;
+
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import autoparams.generator.ObjectGenerator;
+
+/**
+ * A {@link ResolutionMetrics} that counts events in memory.
+ * <p>
+ * Each counter is a {@link LongAdder}, so threads that resolve objects
+ * concurrently do not contend when they count events. Counts are read with
+ * {@link #snapshot()}, which can be called at any time, for example at the
+ * end of a test suite to export the counts to another system.
+ * </p>
+ *
+ * @see ResolutionMetricsSnapshot
+ * @see ResolutionContext#setMetrics(ResolutionMetrics)
+ */
+public final class InMemoryResolutionMetrics implements ResolutionMetrics {
+
+    private final Map<Type, LongAdder> resolutions = new ConcurrentHashMap<>();
+    private final Map<Class<?>, LongAdder> generatorHits =
+        new ConcurrentHashMap<>();
+    private final Map<Class<?>, LongAdder> generatorMisses =
+        new ConcurrentHashMap<>();
+    private final Map<Type, LongAdder> recursionTruncations =
+        new ConcurrentHashMap<>();
+    private final LongAdder constructionPlanHits = new LongAdder();
+    private final LongAdder constructionPlanMisses = new LongAdder();
+
+    @Override
+    public void onResolved(ObjectQuery query) {
+        increment(resolutions, query.getType());
+    }
+
+    @Override
+    public void onGeneratorHit(ObjectGenerator generator, ObjectQuery query) {
+        increment(generatorHits, generator.getClass());
+    }
+
+    @Override
+    public void onGeneratorMiss(ObjectGenerator generator, ObjectQuery query) {
+        increment(generatorMisses, generator.getClass());
+    }
+
+    @Override
+    public void onRecursionTruncated(ObjectQuery query) {
+        increment(recursionTruncations, query.getType());
+    }
+
+    @Override
+    public void onConstructionPlanHit(Type type) {
+        constructionPlanHits.increment();
+    }
+
+    @Override
+    public void onConstructionPlanMiss(Type type) {
+        constructionPlanMisses.increment();
+    }
+
+    private static <K> void increment(Map<K, LongAdder> counters, K key) {
+        LongAdder counter = counters.get(key);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(key, k -> new LongAdder());
+        }
+
+        counter.increment();
+    }
+
+    /**
+     * Returns a snapshot of the counts.
+     * <p>
+     * The snapshot does not change when more events are counted. Counts of
+     * events that happen while the snapshot is taken may or may not be
+     * included.
+     * </p>
+     *
+     * @return a snapshot of the counts.
+     */
+    public ResolutionMetricsSnapshot snapshot() {
+        return new ResolutionMetricsSnapshot(
+            sum(resolutions),
+            sum(generatorHits),
+            sum(generatorMisses),
+            sum(recursionTruncations),
+            constructionPlanHits.sum(),
+            constructionPlanMisses.sum()
+        );
+    }
+
+    private static <K> Map<K, Long> sum(Map<K, LongAdder> counters) {
+        Map<K, Long> sums = new HashMap<>();
+        for (Map.Entry<K, LongAdder> entry : counters.entrySet()) {
+            sums.put(entry.getKey(), entry.getValue().sum());
+        }
+
+        return sums;
+    }
+}
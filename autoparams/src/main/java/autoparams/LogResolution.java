@@ -41,8 +41,35 @@ import java.lang.annotation.Target;
  * </pre>
  *
  * @see autoparams.AutoParams
+ * @see #async()
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface LogResolution {
+
+    /**
+     * Specifies whether the logs are formatted and written to the console on
+     * a background thread.
+     * <p>
+     * Defaults to {@code false}, which formats and writes the logs of each
+     * resolution on the test thread as soon as the resolution completes. With
+     * large object graphs, this can slow down the test considerably. When set
+     * to {@code true}, the logs are handed over to an {@link AsyncLogWriter}
+     * shared by all test methods, which blocks the test thread only when its
+     * buffer is full and writes the pending logs before the JVM exits.
+     * </p>
+     * <p>
+     * <b>Warning:</b> Asynchronous logs appear some time after the resolution
+     * they describe, so they can be interleaved with other output of the test
+     * and can be lost if the JVM halts without running its shutdown hooks.
+     * Resolved values are still converted to strings on the test thread when
+     * each resolution completes, so their {@code toString()} methods do not
+     * have to be thread-safe, and an exception thrown by the console is
+     * reported on the standard error stream instead of failing the test.
+     * </p>
+     *
+     * @return {@code true} to write the logs on a background thread;
+     *         otherwise, {@code false}.
+     */
+    boolean async() default false;
 }
@@ -0,0 +1,64 @@
+package autoparams;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.params.ParameterizedTest;
+
+/**
+ * Annotation that makes AutoParams generate the arguments of upcoming test
+ * cases in the background while the current test case is executed.
+ * <p>
+ * By default, the arguments of each test case are generated on the test
+ * thread right before the test case is executed, so generation and execution
+ * take turns. When applied to a parameterized test method supplied with
+ * arguments from providers like {@link AutoSource @AutoSource} or
+ * {@link CsvAutoSource @CsvAutoSource}, {@link Prefetch @Prefetch} makes a
+ * worker thread generate up to {@link #value} test cases ahead of the test
+ * thread. This shortens the total execution time of tests that combine
+ * expensive fixtures with I/O, especially when used with
+ * {@link Repeat @Repeat}.
+ * </p>
+ * <p>
+ * Each test case is still generated with its own isolated
+ * {@link ResolutionContext}. Generators and customizers used by the test
+ * method must tolerate being called from a thread other than the test thread.
+ * Test cases are generated in the same order as without prefetching, and if
+ * generation fails, the failure is reported when the test thread requests the
+ * failed test case.
+ * </p>
+ *
+ * <p><b>Example: Prefetching test cases of a repeated test</b></p>
+ * <pre>
+ * &#64;org.junit.jupiter.params.ParameterizedTest
+ * &#64;autoparams.AutoSource
+ * &#64;autoparams.Repeat(100)
+ * &#64;autoparams.Prefetch(4)
+ * void testMethod(Order order) {
+ *     // Test logic using order
+ * }
+ * </pre>
+ *
+ * @see #value
+ * @see AutoSource
+ * @see Repeat
+ * @see ParameterizedTest
+ */
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Prefetch {
+
+    /**
+     * Specifies the maximum number of test cases generated ahead of the test
+     * thread.
+     * <p>
+     * Defaults to {@code 2}. A value that is not positive disables
+     * prefetching.
+     * </p>
+     *
+     * @return the maximum number of prefetched test cases.
+     */
+    int value() default 2;
+}
@@ -0,0 +1,53 @@
+package autoparams;
+
+import autoparams.generator.DelegatingObjectGenerator;
+import autoparams.generator.DoubleValueGenerator;
+import autoparams.generator.IntValueGenerator;
+import autoparams.generator.LongValueGenerator;
+import autoparams.generator.ObjectGenerator;
+
+final class PrimitiveGenerators {
+
+    public final IntValueGenerator intGenerator;
+    public final LongValueGenerator longGenerator;
+    public final DoubleValueGenerator doubleGenerator;
+
+    PrimitiveGenerators(ObjectGenerator generator) {
+        this.intGenerator = find(
+            generator,
+            int.class,
+            IntValueGenerator.class
+        );
+        this.longGenerator = find(
+            generator,
+            long.class,
+            LongValueGenerator.class
+        );
+        this.doubleGenerator = find(
+            generator,
+            double.class,
+            DoubleValueGenerator.class
+        );
+    }
+
+    private static <T extends ObjectGenerator> T find(
+        ObjectGenerator generator,
+        Class<?> primitiveType,
+        Class<T> generatorType
+    ) {
+        ObjectGenerator current = generator;
+        while (current instanceof DelegatingObjectGenerator) {
+            if (generatorType.isInstance(current)) {
+                return generatorType.cast(current);
+            }
+
+            DelegatingObjectGenerator delegating =
+                (DelegatingObjectGenerator) current;
+            current = delegating.getDelegate(primitiveType);
+        }
+
+        return generatorType.isInstance(current)
+            ? generatorType.cast(current)
+            : null;
+    }
+}
@@ -1,10 +1,26 @@
 package autoparams;
 
 import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import autoparams.customization.Customizer;
+import autoparams.generator.ConstructorExtractor;
+import autoparams.generator.ConstructorResolver;
+import autoparams.generator.DelegatingObjectGenerator;
+import autoparams.generator.DoubleValueGenerator;
+import autoparams.generator.EmailAddressGenerationOptions;
+import autoparams.generator.IntValueGenerator;
+import autoparams.generator.LongValueGenerator;
 import autoparams.generator.ObjectGenerator;
+import autoparams.generator.RandomSource;
+import autoparams.generator.URIGenerationOptions;
 import autoparams.generator.UnwrapFailedException;
+import autoparams.internal.GenerationTrace;
 import autoparams.processor.ObjectProcessor;
 import autoparams.type.TypeReference;
 
@@ -15,6 +31,28 @@ import autoparams.type.TypeReference;
  * customize objects. It offers methods to resolve objects by type, apply
  * customizers, and create branched contexts with additional customization.
  * </p>
+ * <p>
+ * Service and option objects that AutoParams looks up for itself, such as
+ * {@link ConstructorResolver}, {@link ConstructorExtractor},
+ * {@link AssetConverter}, {@link SupportedParameterPredicate},
+ * {@link EmailAddressGenerationOptions}, {@link URIGenerationOptions} and
+ * {@link RandomSource}, are generated once and reused until a customizer
+ * replaces the object generator of the context. A {@link RandomSource} keeps
+ * its sequence across such customizers unless the new object generator
+ * provides a different source. Once a service is generated, resolving it
+ * again with {@link #resolve(Class)} returns it directly, without logging,
+ * metrics, profiling or Java Flight Recorder events, because generators look
+ * services up for every value they generate.
+ * </p>
+ * <p>
+ * <b>Thread safety:</b> A context can be shared by multiple threads that
+ * resolve objects concurrently. Applying customizers publishes an immutable
+ * snapshot of the object generator and processor, and each call to
+ * {@link #resolve(ObjectQuery)} uses the snapshot that is current when the
+ * call starts. Resolution state, such as recursion tracking and collected log
+ * entries, is kept per thread. Customizers applied while other threads are
+ * resolving objects take effect for the calls that start after them.
+ * </p>
  *
  * <p><b>Example:</b></p>
  * <pre>
@@ -31,9 +69,34 @@ import autoparams.type.TypeReference;
 @LogVisibility(verboseOnly = true)
 public class ResolutionContext {
 
-    private ObjectGenerator generator;
-    private ObjectProcessor processor;
+    private static final Set<Type> SERVICE_TYPES = new HashSet<>(Arrays.asList(
+        AssetConverter.class,
+        ConstructorExtractor.class,
+        ConstructorResolver.class,
+        EmailAddressGenerationOptions.class,
+        RandomSource.class,
+        SupportedParameterPredicate.class,
+        URIGenerationOptions.class
+    ));
+
+    private static final Set<Type> STATEFUL_SERVICE_TYPES =
+        new HashSet<>(Arrays.asList(RandomSource.class));
+
+    private static final ObjectQuery INT_QUERY =
+        new DefaultObjectQuery(int.class);
+
+    private static final ObjectQuery LONG_QUERY =
+        new DefaultObjectQuery(long.class);
+
+    private static final ObjectQuery DOUBLE_QUERY =
+        new DefaultObjectQuery(double.class);
+
+    private static final Object PRIMITIVE_GENERATORS = new Object();
+
+    private volatile Snapshot snapshot;
     private final ResolutionLogger logger;
+    private final ResolutionProfiler profiler;
+    private volatile ResolutionMetrics metrics = ResolutionMetrics.NONE;
 
     /**
      * Creates a new {@link ResolutionContext} with the specified object
@@ -72,9 +135,9 @@ public class ResolutionContext {
             throw new IllegalArgumentException("The argument 'logWriter' is null.");
         }
 
-        this.generator = generator;
-        this.processor = processor;
+        this.snapshot = new Snapshot(generator, processor);
         this.logger = new ResolutionLogger(logWriter);
+        this.profiler = new ResolutionProfiler();
     }
 
     /**
@@ -113,6 +176,13 @@ public class ResolutionContext {
         this(ObjectGenerator.DEFAULT, ObjectProcessor.DEFAULT);
     }
 
+    ResolutionContext(ResolutionContext template) {
+        this.snapshot = template.snapshot.fork();
+        this.logger = template.logger.fork();
+        this.profiler = template.profiler;
+        this.metrics = template.metrics;
+    }
+
     /**
      * Enables logging of object resolution processes.
      * <p>
@@ -140,6 +210,92 @@ public class ResolutionContext {
         logger.enable();
     }
 
+    /**
+     * Enables profiling of object resolution processes.
+     * <p>
+     * This method activates the collection of timing statistics for object
+     * resolutions. Unlike logging, profiling does not output anything.
+     * Instead, it aggregates the number of resolutions, their total and self
+     * times measured with {@link System#nanoTime()}, and their slowest
+     * resolution paths, by query type and by object generator. Profiling is
+     * disabled by default and must be explicitly enabled.
+     * </p>
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * ResolutionContext context = new ResolutionContext();
+     * context.enableProfiling();
+     * MyClass obj = context.resolve(MyClass.class);
+     * System.out.println(context.getProfile());
+     * </pre>
+     *
+     * @see #getProfile()
+     * @see ResolutionProfile
+     */
+    public void enableProfiling() {
+        profiler.enable();
+    }
+
+    /**
+     * Returns a snapshot of the statistics collected while profiling was
+     * enabled.
+     * <p>
+     * The snapshot does not change when this context resolves more objects.
+     * If profiling has never been enabled, the snapshot is empty.
+     * </p>
+     *
+     * @return a snapshot of the collected statistics.
+     * @see #enableProfiling()
+     */
+    public ResolutionProfile getProfile() {
+        return profiler.getProfile();
+    }
+
+    /**
+     * Installs the listener that counts events of object resolutions.
+     * <p>
+     * By default, {@link ResolutionMetrics#NONE} is installed and events are
+     * not counted. The listener is carried over to contexts created by
+     * {@link #branch(Customizer...)}, so their events are counted together
+     * with the events of this context.
+     * </p>
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * InMemoryResolutionMetrics metrics = new InMemoryResolutionMetrics();
+     * ResolutionContext context = new ResolutionContext();
+     * context.setMetrics(metrics);
+     * MyClass obj = context.resolve(MyClass.class);
+     * System.out.println(metrics.snapshot().getResolutions());
+     * </pre>
+     *
+     * @param metrics the listener to notify of resolution events.
+     * @throws IllegalArgumentException if {@code metrics} is {@code null}.
+     * @see InMemoryResolutionMetrics
+     */
+    public void setMetrics(ResolutionMetrics metrics) {
+        if (metrics == null) {
+            throw new IllegalArgumentException("The argument 'metrics' is null.");
+        }
+
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the listener that counts events of object resolutions.
+     * <p>
+     * Object generators use this method to report their own events, such as
+     * recursion truncations and construction plan cache lookups.
+     * </p>
+     *
+     * @return the installed listener, or {@link ResolutionMetrics#NONE} if no
+     *         listener has been installed.
+     * @see #setMetrics(ResolutionMetrics)
+     */
+    public ResolutionMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * Resolves an object of the inferred type using type inference.
      * <p>
@@ -211,7 +367,10 @@ public class ResolutionContext {
      */
     @SuppressWarnings("unchecked")
     public <T> T resolve(Class<T> type) {
-        return (T) resolve(new DefaultObjectQuery(type));
+        Object service = type == null ? null : snapshot.services.get(type);
+        return service != null
+            ? (T) service
+            : (T) resolve(new DefaultObjectQuery(type));
     }
 
     /**
@@ -271,35 +430,317 @@ public class ResolutionContext {
             throw new IllegalArgumentException("The argument 'query' is null.");
         }
 
+        Snapshot snapshot = this.snapshot;
         try {
             logger.onResolving(query);
-            Object value = generateThenProcessValue(query);
+            Object value = traceValue(snapshot, query);
+            metrics.onResolved(query);
             logger.onResolved(query, value);
             return value;
         } catch (Exception exception) {
-            String message = "Failed to resolve an object for the given query: "
-                + query + ". See the internal error message for details.";
-            throw new RuntimeException(message, exception);
+            throw createResolutionFailure(query, exception);
         }
     }
 
-    private Object generateThenProcessValue(ObjectQuery query) {
-        Object value = generateValue(query);
-        processValue(query, value);
+    private static RuntimeException createResolutionFailure(
+        ObjectQuery query,
+        Exception exception
+    ) {
+        String message = "Failed to resolve an object for the given query: "
+            + query + ". See the internal error message for details.";
+        return new RuntimeException(message, exception);
+    }
+
+    /**
+     * Resolves an {@code int} value.
+     * <p>
+     * This method is equivalent to {@code resolveInt(new
+     * DefaultObjectQuery(int.class))}.
+     * </p>
+     *
+     * @return the resolved value
+     * @throws RuntimeException if value generation fails
+     * @see #resolveInt(ObjectQuery)
+     */
+    public int resolveInt() {
+        return resolveInt(INT_QUERY);
+    }
+
+    /**
+     * Resolves an {@code int} value for the given {@link ObjectQuery}.
+     * <p>
+     * The result is the same as the result of {@link #resolve(ObjectQuery)}
+     * unboxed. If the type of the query is {@code int}, and the object
+     * generator of this context passes {@code int} queries to an
+     * {@link IntValueGenerator} through {@link DelegatingObjectGenerator}
+     * instances such as {@link autoparams.generator.CompositeObjectGenerator},
+     * the value is generated by
+     * {@link IntValueGenerator#generateInt(ObjectQuery, ResolutionContext)}
+     * without boxing it. Otherwise, or if logging, profiling, metrics,
+     * Java Flight Recorder events, or an object processor other than
+     * {@link ObjectProcessor#DEFAULT} observe the resolution, the value is
+     * resolved with {@link #resolve(ObjectQuery)}.
+     * </p>
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * ResolutionContext context = new ResolutionContext();
+     * int[] values = new int[1000];
+     * for (int i = 0; i &lt; values.length; i++) {
+     *     values[i] = context.resolveInt();
+     * }
+     * </pre>
+     *
+     * @param query the object query describing the requested value
+     * @return the resolved value
+     * @throws IllegalArgumentException if {@code query} is {@code null}
+     * @throws RuntimeException         if value generation fails
+     */
+    public int resolveInt(ObjectQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("The argument 'query' is null.");
+        }
+
+        Snapshot snapshot = this.snapshot;
+        IntValueGenerator generator = int.class.equals(query.getType())
+            ? getPrimitiveGenerators(snapshot).intGenerator
+            : null;
+        if (generator == null || isObserved(snapshot)) {
+            return (Integer) resolve(query);
+        }
+
+        try {
+            return generator.generateInt(query, this);
+        } catch (Exception exception) {
+            throw createResolutionFailure(query, exception);
+        }
+    }
+
+    /**
+     * Resolves a {@code long} value.
+     * <p>
+     * This method is equivalent to {@code resolveLong(new
+     * DefaultObjectQuery(long.class))}.
+     * </p>
+     *
+     * @return the resolved value
+     * @throws RuntimeException if value generation fails
+     * @see #resolveLong(ObjectQuery)
+     */
+    public long resolveLong() {
+        return resolveLong(LONG_QUERY);
+    }
+
+    /**
+     * Resolves a {@code long} value for the given {@link ObjectQuery}.
+     * <p>
+     * This method generates the value with a {@link LongValueGenerator}
+     * without boxing it under the same conditions under which
+     * {@link #resolveInt(ObjectQuery)} uses an {@link IntValueGenerator}.
+     * </p>
+     *
+     * @param query the object query describing the requested value
+     * @return the resolved value
+     * @throws IllegalArgumentException if {@code query} is {@code null}
+     * @throws RuntimeException         if value generation fails
+     * @see #resolveInt(ObjectQuery)
+     */
+    public long resolveLong(ObjectQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("The argument 'query' is null.");
+        }
+
+        Snapshot snapshot = this.snapshot;
+        LongValueGenerator generator = long.class.equals(query.getType())
+            ? getPrimitiveGenerators(snapshot).longGenerator
+            : null;
+        if (generator == null || isObserved(snapshot)) {
+            return (Long) resolve(query);
+        }
+
+        try {
+            return generator.generateLong(query, this);
+        } catch (Exception exception) {
+            throw createResolutionFailure(query, exception);
+        }
+    }
+
+    /**
+     * Resolves a {@code double} value.
+     * <p>
+     * This method is equivalent to {@code resolveDouble(new
+     * DefaultObjectQuery(double.class))}.
+     * </p>
+     *
+     * @return the resolved value
+     * @throws RuntimeException if value generation fails
+     * @see #resolveDouble(ObjectQuery)
+     */
+    public double resolveDouble() {
+        return resolveDouble(DOUBLE_QUERY);
+    }
+
+    /**
+     * Resolves a {@code double} value for the given {@link ObjectQuery}.
+     * <p>
+     * This method generates the value with a {@link DoubleValueGenerator}
+     * without boxing it under the same conditions under which
+     * {@link #resolveInt(ObjectQuery)} uses an {@link IntValueGenerator}.
+     * </p>
+     *
+     * @param query the object query describing the requested value
+     * @return the resolved value
+     * @throws IllegalArgumentException if {@code query} is {@code null}
+     * @throws RuntimeException         if value generation fails
+     * @see #resolveInt(ObjectQuery)
+     */
+    public double resolveDouble(ObjectQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("The argument 'query' is null.");
+        }
+
+        Snapshot snapshot = this.snapshot;
+        DoubleValueGenerator generator = double.class.equals(query.getType())
+            ? getPrimitiveGenerators(snapshot).doubleGenerator
+            : null;
+        if (generator == null || isObserved(snapshot)) {
+            return (Double) resolve(query);
+        }
+
+        try {
+            return generator.generateDouble(query, this);
+        } catch (Exception exception) {
+            throw createResolutionFailure(query, exception);
+        }
+    }
+
+    private static PrimitiveGenerators getPrimitiveGenerators(
+        Snapshot snapshot
+    ) {
+        Map<Object, Object> memo = snapshot.memo;
+        Object generators = memo.get(PRIMITIVE_GENERATORS);
+        if (generators == null) {
+            generators = new PrimitiveGenerators(snapshot.generator);
+            Object previous = memo.putIfAbsent(PRIMITIVE_GENERATORS, generators);
+            if (previous != null) {
+                generators = previous;
+            }
+        }
+
+        return (PrimitiveGenerators) generators;
+    }
+
+    private boolean isObserved(Snapshot snapshot) {
+        return snapshot.processor != ObjectProcessor.DEFAULT
+            || metrics != ResolutionMetrics.NONE
+            || logger.isEnabled()
+            || profiler.isEnabled()
+            || ResolutionEvents.isResolveEnabled();
+    }
+
+    private Object traceValue(Snapshot snapshot, ObjectQuery query) {
+        Object event = ResolutionEvents.beginResolve();
+        if (event == null && profiler.isEnabled() == false) {
+            return generateThenProcessValue(snapshot, query);
+        }
+
+        profiler.onResolving(query);
+        GenerationTrace trace = GenerationTrace.start();
+        try {
+            return generateThenProcessValue(snapshot, query);
+        } finally {
+            ObjectGenerator generator = trace.stop();
+            ResolutionEvents.endResolve(event, query, generator);
+            profiler.onResolved(generator);
+        }
+    }
+
+    private Object generateThenProcessValue(
+        Snapshot snapshot,
+        ObjectQuery query
+    ) {
+        return isServiceQuery(query)
+            ? generateThenProcessService(snapshot, query)
+            : generateThenProcessObject(snapshot, query);
+    }
+
+    private static boolean isServiceQuery(ObjectQuery query) {
+        return query instanceof DefaultObjectQuery
+            && SERVICE_TYPES.contains(query.getType());
+    }
+
+    private Object generateThenProcessService(
+        Snapshot snapshot,
+        ObjectQuery query
+    ) {
+        Map<Type, Object> services = snapshot.services;
+        Object service = services.get(query.getType());
+        if (service == null) {
+            service = STATEFUL_SERVICE_TYPES.contains(query.getType())
+                ? generateThenProcessStatefulService(snapshot, query)
+                : generateThenProcessObject(snapshot, query);
+            if (service != null) {
+                Object previous = services.putIfAbsent(query.getType(), service);
+                if (previous != null) {
+                    service = previous;
+                }
+            }
+        }
+
+        return service;
+    }
+
+    private Object generateThenProcessStatefulService(
+        Snapshot snapshot,
+        ObjectQuery query
+    ) {
+        Object service;
+        ObjectGenerator producer;
+        GenerationTrace trace = GenerationTrace.capture();
+        try {
+            service = generateThenProcessObject(snapshot, query);
+        } finally {
+            producer = trace.stop();
+        }
+
+        // A source generated by the same generator as the source used before
+        // the object generator changed continues the previous sequence.
+        Type type = query.getType();
+        ServiceRecord previous = snapshot.serviceRecords.get(type);
+        if (previous != null && producer != null && previous.producer == producer) {
+            return previous.service;
+        }
+
+        if (service != null) {
+            snapshot.serviceRecords.put(type, new ServiceRecord(service, producer));
+        }
+
+        return service;
+    }
+
+    private Object generateThenProcessObject(
+        Snapshot snapshot,
+        ObjectQuery query
+    ) {
+        Object value = generateValue(snapshot, query);
+        processValue(snapshot.processor, query, value);
         return value;
     }
 
-    private Object generateValue(ObjectQuery query) {
+    private Object generateValue(Snapshot snapshot, ObjectQuery query) {
         final Type type = query.getType();
         if (ResolutionContext.class.equals(type)) {
             return this;
         } else if (ObjectGenerator.class.equals(type)) {
-            return generator;
+            return snapshot.generator;
         } else if (ObjectProcessor.class.equals(type)) {
-            return processor;
+            return snapshot.processor;
         } else {
             try {
-                return generator.generate(query, this).unwrapOrElseThrow();
+                return snapshot
+                    .generator
+                    .generate(query, this)
+                    .unwrapOrElseThrow();
             } catch (UnwrapFailedException exception) {
                 String message = "Failed to generate an object for the query: "
                     + query + ". The requested type may be an abstract class"
@@ -310,7 +751,11 @@ public class ResolutionContext {
         }
     }
 
-    private void processValue(ObjectQuery query, Object value) {
+    private void processValue(
+        ObjectProcessor processor,
+        ObjectQuery query,
+        Object value
+    ) {
         processor.process(query, value, this);
     }
 
@@ -354,13 +799,18 @@ public class ResolutionContext {
      * @param customizer the customizer to apply
      * @throws IllegalArgumentException if {@code customizer} is {@code null}
      */
-    public void applyCustomizer(Customizer customizer) {
+    public synchronized void applyCustomizer(Customizer customizer) {
         if (customizer == null) {
             throw new IllegalArgumentException("The argument 'customizer' is null.");
         }
 
-        generator = customizer.customize(generator);
-        processor = customizer.customize(processor);
+        Object event = ResolutionEvents.beginCustomization();
+        Snapshot current = snapshot;
+        snapshot = current.with(
+            customizer.customize(current.generator),
+            customizer.customize(current.processor)
+        );
+        ResolutionEvents.endCustomization(event, customizer);
     }
 
     /**
@@ -402,12 +852,18 @@ public class ResolutionContext {
      * @param generator the object generator to apply
      * @throws IllegalArgumentException if {@code generator} is {@code null}
      */
-    public void applyCustomizer(ObjectGenerator generator) {
+    public synchronized void applyCustomizer(ObjectGenerator generator) {
         if (generator == null) {
             throw new IllegalArgumentException("The argument 'generator' is null.");
         }
 
-        this.generator = generator.customize(this.generator);
+        Object event = ResolutionEvents.beginCustomization();
+        Snapshot current = snapshot;
+        snapshot = current.with(
+            generator.customize(current.generator),
+            current.processor
+        );
+        ResolutionEvents.endCustomization(event, generator);
     }
 
     /**
@@ -449,12 +905,18 @@ public class ResolutionContext {
      * @param processor the object processor to apply
      * @throws IllegalArgumentException if {@code processor} is {@code null}
      */
-    public void applyCustomizer(ObjectProcessor processor) {
+    public synchronized void applyCustomizer(ObjectProcessor processor) {
         if (processor == null) {
             throw new IllegalArgumentException("The argument 'processor' is null.");
         }
 
-        this.processor = processor.customize(this.processor);
+        Object event = ResolutionEvents.beginCustomization();
+        Snapshot current = snapshot;
+        snapshot = current.with(
+            current.generator,
+            processor.customize(current.processor)
+        );
+        ResolutionEvents.endCustomization(event, processor);
     }
 
     /**
@@ -532,7 +994,7 @@ public class ResolutionContext {
      *
      * @param customizers customizers to apply
      */
-    public void customize(Customizer... customizers) {
+    public synchronized void customize(Customizer... customizers) {
         for (Customizer customizer : customizers) {
             applyCustomizer(customizer);
         }
@@ -559,8 +1021,145 @@ public class ResolutionContext {
      * @return a new {@link ResolutionContext} with the customizers applied
      */
     public ResolutionContext branch(Customizer... customizers) {
-        ResolutionContext context = new ResolutionContext(generator, processor);
+        Snapshot snapshot = this.snapshot;
+        ResolutionContext context = new ResolutionContext(
+            snapshot.generator,
+            snapshot.processor
+        );
+        context.snapshot = snapshot;
+        context.metrics = metrics;
         context.customize(customizers);
         return context;
     }
+
+    /**
+     * Returns the value memoized in this context under the specified key,
+     * computing it with the specified supplier if no value has been memoized
+     * yet.
+     * <p>
+     * Memoized values are bound to the current object generator of this
+     * context. They are discarded when a customizer replaces the object
+     * generator, so the supplier must only depend on the type of the value
+     * and on objects resolved from this context. A context created by
+     * {@link #branch(Customizer...)} shares the memoized values of its origin
+     * until either context changes its object generator.
+     * </p>
+     * <p>
+     * Generators use this method to reuse deterministic results, such as
+     * construction plans, across resolutions. Use a key that is private to
+     * the caller to avoid collisions with other memoized values.
+     * </p>
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * private static final Object PLANS = new Object();
+     *
+     * Map&lt;Type, Plan&gt; plans = context.memoize(PLANS, ConcurrentHashMap::new);
+     * </pre>
+     *
+     * @param key      the key under which the value is memoized
+     * @param supplier the supplier that computes the value if it is absent.
+     *                 It must not return {@code null}.
+     * @param <T>      the type of the memoized value
+     * @return the memoized value
+     * @throws IllegalArgumentException if {@code key} or {@code supplier} is
+     *                                  {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T memoize(Object key, Supplier<? extends T> supplier) {
+        if (key == null) {
+            throw new IllegalArgumentException("The argument 'key' is null.");
+        }
+
+        if (supplier == null) {
+            throw new IllegalArgumentException("The argument 'supplier' is null.");
+        }
+
+        Map<Object, Object> memo = snapshot.memo;
+        Object value = memo.get(key);
+        if (value == null) {
+            value = supplier.get();
+            Object previous = memo.putIfAbsent(key, value);
+            if (previous != null) {
+                value = previous;
+            }
+        }
+
+        return (T) value;
+    }
+
+    private static final class Snapshot {
+
+        public final ObjectGenerator generator;
+        public final ObjectProcessor processor;
+        public final Map<Object, Object> memo;
+        public final Map<Type, Object> services;
+        public final Map<Type, ServiceRecord> serviceRecords;
+
+        public Snapshot(ObjectGenerator generator, ObjectProcessor processor) {
+            this(
+                generator,
+                processor,
+                new ConcurrentHashMap<>(),
+                new ConcurrentHashMap<>(),
+                new ConcurrentHashMap<>()
+            );
+        }
+
+        private Snapshot(
+            ObjectGenerator generator,
+            ObjectProcessor processor,
+            Map<Object, Object> memo,
+            Map<Type, Object> services,
+            Map<Type, ServiceRecord> serviceRecords
+        ) {
+            this.generator = generator;
+            this.processor = processor;
+            this.memo = memo;
+            this.services = services;
+            this.serviceRecords = serviceRecords;
+        }
+
+        public Snapshot with(
+            ObjectGenerator generator,
+            ObjectProcessor processor
+        ) {
+            return generator == this.generator
+                ? new Snapshot(
+                    generator,
+                    processor,
+                    memo,
+                    services,
+                    serviceRecords
+                )
+                : new Snapshot(
+                    generator,
+                    processor,
+                    new ConcurrentHashMap<>(),
+                    new ConcurrentHashMap<>(),
+                    new ConcurrentHashMap<>(serviceRecords)
+                );
+        }
+
+        public Snapshot fork() {
+            return new Snapshot(
+                generator,
+                processor,
+                memo,
+                new ConcurrentHashMap<>(),
+                new ConcurrentHashMap<>()
+            );
+        }
+    }
+
+    private static final class ServiceRecord {
+
+        public final Object service;
+        public final ObjectGenerator producer;
+
+        public ServiceRecord(Object service, ObjectGenerator producer) {
+            this.service = service;
+            this.producer = producer;
+        }
+    }
 }
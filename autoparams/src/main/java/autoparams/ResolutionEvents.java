@@ -0,0 +1,51 @@
+package autoparams;
+
+import java.lang.reflect.Method;
+
+import autoparams.generator.ObjectGenerator;
+
+/**
+ * Emits diagnostic events for resolutions, customizations and the creation
+ * of test resolution contexts.
+ * <p>
+ * This implementation is used on Java 8 and does nothing. On Java 11 and
+ * later, the multi-release JAR replaces it with an implementation that
+ * records the events with Java Flight Recorder. Each {@code begin} method
+ * returns an event token, or {@code null} if the event is not recorded, and
+ * the token is passed to the matching {@code end} method.
+ * </p>
+ */
+final class ResolutionEvents {
+
+    private ResolutionEvents() {
+    }
+
+    static boolean isResolveEnabled() {
+        return false;
+    }
+
+    static Object beginResolve() {
+        return null;
+    }
+
+    static void endResolve(
+        Object event,
+        ObjectQuery query,
+        ObjectGenerator generator
+    ) {
+    }
+
+    static Object beginCustomization() {
+        return null;
+    }
+
+    static void endCustomization(Object event, Object customizer) {
+    }
+
+    static Object beginTestContextCreation() {
+        return null;
+    }
+
+    static void endTestContextCreation(Object event, Method testMethod) {
+    }
+}
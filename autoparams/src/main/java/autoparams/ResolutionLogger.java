@@ -8,10 +8,14 @@ import java.util.Stack;
 
 class ResolutionLogger {
 
+    // Trees completed by different threads are written one at a time. The
+    // lock is private because the writer is supplied by the user.
+    private static final Object WRITE_LOCK = new Object();
+
     private final LogWriter logWriter;
-    private final List<LogEntry> entries = new ArrayList<>();
-    private int depth = 0;
-    private boolean enabled = false;
+    private final ThreadLocal<Session> sessions =
+        ThreadLocal.withInitial(Session::new);
+    private volatile boolean enabled = false;
 
     public ResolutionLogger(LogWriter logWriter) {
         this.logWriter = logWriter;
@@ -21,17 +25,28 @@ class ResolutionLogger {
         this.enabled = true;
     }
 
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public ResolutionLogger fork() {
+        ResolutionLogger logger = new ResolutionLogger(logWriter);
+        logger.enabled = enabled;
+        return logger;
+    }
+
     public void onResolving(ObjectQuery query) {
         if (!enabled) {
             return;
         }
 
+        Session session = sessions.get();
         LogEntry entry = new LogEntry();
         entry.query = query;
-        entry.depth = depth;
+        entry.depth = session.depth;
         entry.startTime = System.currentTimeMillis();
-        entries.add(entry);
-        depth++;
+        session.entries.add(entry);
+        session.depth++;
     }
 
     public void onResolved(ObjectQuery query, Object value) {
@@ -39,7 +54,9 @@ class ResolutionLogger {
             return;
         }
 
-        depth--;
+        Session session = sessions.get();
+        List<LogEntry> entries = session.entries;
+        int depth = --session.depth;
         for (int i = entries.size() - 1; i >= 0; i--) {
             LogEntry entry = entries.get(i);
             if (entry.value == null && entry.depth == depth) {
@@ -50,11 +67,11 @@ class ResolutionLogger {
         }
 
         if (depth == 0) {
-            flushEntries();
+            flushEntries(entries);
         }
     }
 
-    private List<TreeNode> buildTreeStructure() {
+    private List<TreeNode> buildTreeStructure(List<LogEntry> entries) {
         List<TreeNode> nodes = new ArrayList<>();
         Stack<TreeNode> stack = new Stack<>();
 
@@ -125,36 +142,61 @@ class ResolutionLogger {
         return siblings.get(siblings.size() - 1) == node;
     }
 
-    private void flushEntries() {
+    private void flushEntries(List<LogEntry> entries) {
         if (entries.isEmpty()) {
             return;
         }
 
         // Build tree structure - O(n)
-        List<TreeNode> nodes = buildTreeStructure();
+        List<TreeNode> nodes = buildTreeStructure(entries);
+
+        // Describe values while they still have their resolved state - O(n)
+        describeValues(nodes);
+
+        if (logWriter instanceof AsyncLogWriter) {
+            // Line assembly is deferred to the background thread of the writer
+            ((AsyncLogWriter) logWriter).defer(writer -> {
+                calculatePrefixes(nodes);
+                writeNodes(nodes, writer);
+            });
+        } else {
+            // Calculate prefixes - O(n)
+            calculatePrefixes(nodes);
+
+            // Output logs - O(n)
+            synchronized (WRITE_LOCK) {
+                writeNodes(nodes, logWriter);
+            }
+        }
 
-        // Calculate prefixes - O(n)
-        calculatePrefixes(nodes);
+        entries.clear();
+    }
 
-        // Output logs - O(n)
+    private void describeValues(List<TreeNode> nodes) {
+        for (TreeNode node : nodes) {
+            if (shouldLog(node.entry.query, false)
+                && shouldIncludeValueOptimized(node)) {
+
+                node.entry.valueText = isLeafNodeOptimized(node)
+                    ? String.valueOf(node.entry.value)
+                    : getBranchValueDescription(node.entry);
+            }
+        }
+    }
+
+    private void writeNodes(List<TreeNode> nodes, LogWriter writer) {
         for (TreeNode node : nodes) {
             if (shouldLog(node.entry.query, false)) {
                 String timeString = node.entry.elapsed < 1 ? "< 1ms" : node.entry.elapsed + "ms";
                 String message = node.cachedPrefix + node.entry.query.toLog(false);
 
-                if (shouldIncludeValueOptimized(node)) {
-                    if (isLeafNodeOptimized(node)) {
-                        message += " → " + node.entry.value;
-                    } else {
-                        message += " → " + getBranchValueDescription(node.entry);
-                    }
+                if (node.entry.valueText != null) {
+                    message += " → " + node.entry.valueText;
                 }
                 message += " (" + timeString + ")";
-                logWriter.write(message);
+                writer.write(message);
             }
         }
-
-        entries.clear();
     }
 
     private boolean shouldIncludeValueOptimized(TreeNode node) {
@@ -176,10 +218,17 @@ class ResolutionLogger {
                node.children.stream().noneMatch(child -> shouldLog(child.entry.query, false));
     }
 
+    private static class Session {
+
+        final List<LogEntry> entries = new ArrayList<>();
+        int depth = 0;
+    }
+
     private static class LogEntry {
 
         ObjectQuery query;
         Object value;
+        String valueText;
         int depth;
         long startTime;
         long elapsed;
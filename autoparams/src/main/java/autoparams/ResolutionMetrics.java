@@ -0,0 +1,105 @@
+package autoparams;
+
+import java.lang.reflect.Type;
+
+import autoparams.generator.ObjectGenerator;
+
+/**
+ * Receives counter events from object resolutions of a
+ * {@link ResolutionContext}.
+ * <p>
+ * A listener is installed with
+ * {@link ResolutionContext#setMetrics(ResolutionMetrics)}. It is notified when
+ * a query is resolved, when a composed object generator produces or does not
+ * produce an object for a query, when a recursion guard truncates a recursive
+ * resolution, and when a construction plan is looked up. All methods do
+ * nothing by default, so an implementation overrides only the events it
+ * counts.
+ * </p>
+ * <p>
+ * The methods are called on the threads that resolve objects, in the middle
+ * of the resolutions. Implementations must be thread-safe and should not
+ * block. {@link InMemoryResolutionMetrics} counts the events with striped
+ * counters that do not contend with each other.
+ * </p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>
+ * InMemoryResolutionMetrics metrics = new InMemoryResolutionMetrics();
+ * ResolutionContext context = new ResolutionContext();
+ * context.setMetrics(metrics);
+ * context.resolve(Order.class);
+ * ResolutionMetricsSnapshot snapshot = metrics.snapshot();
+ * </pre>
+ *
+ * @see InMemoryResolutionMetrics
+ * @see ResolutionContext#setMetrics(ResolutionMetrics)
+ */
+public interface ResolutionMetrics {
+
+    /**
+     * The {@link ResolutionMetrics} that ignores all events.
+     * <p>
+     * This instance is installed in a {@link ResolutionContext} by default.
+     * </p>
+     */
+    ResolutionMetrics NONE = new ResolutionMetrics() {
+    };
+
+    /**
+     * Called when a query has been resolved successfully.
+     *
+     * @param query the resolved query.
+     */
+    default void onResolved(ObjectQuery query) {
+    }
+
+    /**
+     * Called when an object generator composed by a
+     * {@link autoparams.generator.CompositeObjectGenerator} produced an object
+     * for a query.
+     *
+     * @param generator the generator that produced the object.
+     * @param query     the query for which the object was produced.
+     */
+    default void onGeneratorHit(ObjectGenerator generator, ObjectQuery query) {
+    }
+
+    /**
+     * Called when an object generator composed by a
+     * {@link autoparams.generator.CompositeObjectGenerator} did not produce an
+     * object for a query.
+     *
+     * @param generator the generator that did not produce an object.
+     * @param query     the query for which no object was produced.
+     */
+    default void onGeneratorMiss(ObjectGenerator generator, ObjectQuery query) {
+    }
+
+    /**
+     * Called when a {@link autoparams.customization.RecursionGuard} truncates
+     * a recursive resolution by generating {@code null}.
+     *
+     * @param query the query whose resolution was truncated.
+     */
+    default void onRecursionTruncated(ObjectQuery query) {
+    }
+
+    /**
+     * Called when the construction plan of a type is found in the cache of
+     * the context.
+     *
+     * @param type the type that is constructed.
+     */
+    default void onConstructionPlanHit(Type type) {
+    }
+
+    /**
+     * Called when the construction plan of a type is not found in the cache
+     * of the context and is created.
+     *
+     * @param type the type that is constructed.
+     */
+    default void onConstructionPlanMiss(Type type) {
+    }
+}
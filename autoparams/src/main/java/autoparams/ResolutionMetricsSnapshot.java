@@ -0,0 +1,111 @@
+package autoparams;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Represents a snapshot of the counts that an
+ * {@link InMemoryResolutionMetrics} collected.
+ * <p>
+ * Instances of this class are immutable snapshots taken by
+ * {@link InMemoryResolutionMetrics#snapshot()}.
+ * </p>
+ *
+ * @see InMemoryResolutionMetrics
+ */
+public final class ResolutionMetricsSnapshot {
+
+    private final Map<Type, Long> resolutions;
+    private final Map<Class<?>, Long> generatorHits;
+    private final Map<Class<?>, Long> generatorMisses;
+    private final Map<Type, Long> recursionTruncations;
+    private final long constructionPlanHits;
+    private final long constructionPlanMisses;
+
+    ResolutionMetricsSnapshot(
+        Map<Type, Long> resolutions,
+        Map<Class<?>, Long> generatorHits,
+        Map<Class<?>, Long> generatorMisses,
+        Map<Type, Long> recursionTruncations,
+        long constructionPlanHits,
+        long constructionPlanMisses
+    ) {
+        this.resolutions = unmodifiableMap(resolutions);
+        this.generatorHits = unmodifiableMap(generatorHits);
+        this.generatorMisses = unmodifiableMap(generatorMisses);
+        this.recursionTruncations = unmodifiableMap(recursionTruncations);
+        this.constructionPlanHits = constructionPlanHits;
+        this.constructionPlanMisses = constructionPlanMisses;
+    }
+
+    /**
+     * Returns the numbers of successful resolutions by query type.
+     *
+     * @return an unmodifiable map from query types to counts.
+     */
+    public Map<Type, Long> getResolutions() {
+        return resolutions;
+    }
+
+    /**
+     * Returns the numbers of queries for which composed object generators
+     * produced objects, by the class of the generator.
+     *
+     * @return an unmodifiable map from generator classes to counts.
+     */
+    public Map<Class<?>, Long> getGeneratorHits() {
+        return generatorHits;
+    }
+
+    /**
+     * Returns the numbers of queries for which composed object generators did
+     * not produce objects, by the class of the generator.
+     *
+     * @return an unmodifiable map from generator classes to counts.
+     */
+    public Map<Class<?>, Long> getGeneratorMisses() {
+        return generatorMisses;
+    }
+
+    /**
+     * Returns the numbers of resolutions truncated by recursion guards, by
+     * query type.
+     *
+     * @return an unmodifiable map from query types to counts.
+     */
+    public Map<Type, Long> getRecursionTruncations() {
+        return recursionTruncations;
+    }
+
+    /**
+     * Returns the number of construction plans found in the cache.
+     *
+     * @return the number of cache hits.
+     */
+    public long getConstructionPlanHits() {
+        return constructionPlanHits;
+    }
+
+    /**
+     * Returns the number of construction plans that were not found in the
+     * cache and were created.
+     *
+     * @return the number of cache misses.
+     */
+    public long getConstructionPlanMisses() {
+        return constructionPlanMisses;
+    }
+
+    /**
+     * Returns the ratio of construction plan lookups that hit the cache.
+     *
+     * @return the hit ratio between {@code 0.0} and {@code 1.0}, or
+     *         {@code 0.0} if no construction plan was looked up.
+     */
+    public double getConstructionPlanHitRatio() {
+        long lookups = constructionPlanHits + constructionPlanMisses;
+        return lookups == 0 ? 0.0 : (double) constructionPlanHits / lookups;
+    }
+}
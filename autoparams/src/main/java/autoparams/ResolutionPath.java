@@ -0,0 +1,65 @@
+package autoparams;
+
+import java.util.List;
+
+import static autoparams.ResolutionStatistics.formatNanos;
+
+/**
+ * Represents a resolution that took a long time by itself, together with the
+ * chain of resolutions that led to it.
+ * <p>
+ * Instances of this class are immutable snapshots taken by
+ * {@link ResolutionContext#getProfile()}. The first type of the path is the
+ * type that was resolved directly from the context, and the last type is the
+ * type of the measured resolution.
+ * </p>
+ *
+ * @see ResolutionProfile#getSlowestPaths()
+ */
+public final class ResolutionPath {
+
+    private final List<String> types;
+    private final long selfNanos;
+    private final long totalNanos;
+
+    ResolutionPath(List<String> types, long selfNanos, long totalNanos) {
+        this.types = types;
+        this.selfNanos = selfNanos;
+        this.totalNanos = totalNanos;
+    }
+
+    /**
+     * Returns the names of the resolved types from the root of the path to
+     * the measured resolution.
+     *
+     * @return an unmodifiable list of the type names.
+     */
+    public List<String> getTypes() {
+        return types;
+    }
+
+    /**
+     * Returns the self time of the measured resolution.
+     *
+     * @return the self time in nanoseconds.
+     */
+    public long getSelfNanos() {
+        return selfNanos;
+    }
+
+    /**
+     * Returns the total time of the measured resolution.
+     *
+     * @return the total time in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.join(" > ", types)
+            + " self=" + formatNanos(selfNanos)
+            + " total=" + formatNanos(totalNanos);
+    }
+}
@@ -0,0 +1,135 @@
+package autoparams;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Represents a snapshot of the timing statistics that a
+ * {@link ResolutionContext} collected while profiling was enabled.
+ * <p>
+ * Profiling is enabled with {@link ResolutionContext#enableProfiling()}, and
+ * a snapshot is taken with {@link ResolutionContext#getProfile()}. The
+ * statistics are aggregated by query type and by the object generator that
+ * generated each object, so expensive types and custom generators can be
+ * found without reading resolution logs.
+ * </p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>
+ * ResolutionContext context = new ResolutionContext();
+ * context.enableProfiling();
+ * context.resolve(Order.class);
+ * System.out.println(context.getProfile().report(ResolutionStatistics.BY_SELF_TIME));
+ * </pre>
+ *
+ * @see ResolutionContext#enableProfiling()
+ * @see ResolutionStatistics
+ * @see ResolutionPath
+ */
+public final class ResolutionProfile {
+
+    private final List<ResolutionStatistics> typeStatistics;
+    private final List<ResolutionStatistics> generatorStatistics;
+    private final List<ResolutionPath> slowestPaths;
+
+    ResolutionProfile(
+        List<ResolutionStatistics> typeStatistics,
+        List<ResolutionStatistics> generatorStatistics,
+        List<ResolutionPath> slowestPaths
+    ) {
+        this.typeStatistics = unmodifiableList(typeStatistics);
+        this.generatorStatistics = unmodifiableList(generatorStatistics);
+        this.slowestPaths = unmodifiableList(slowestPaths);
+    }
+
+    /**
+     * Returns the statistics aggregated by query type.
+     *
+     * @return an unmodifiable list of the statistics in no particular order.
+     */
+    public List<ResolutionStatistics> getTypeStatistics() {
+        return typeStatistics;
+    }
+
+    /**
+     * Returns the statistics aggregated by the class of the object generator
+     * that generated each object.
+     * <p>
+     * Resolutions of objects that the context provides by itself, such as the
+     * context and its generator, are not included.
+     * </p>
+     *
+     * @return an unmodifiable list of the statistics in no particular order.
+     */
+    public List<ResolutionStatistics> getGeneratorStatistics() {
+        return generatorStatistics;
+    }
+
+    /**
+     * Returns the resolutions with the longest self times, together with the
+     * chains of resolutions that led to them.
+     *
+     * @return an unmodifiable list of the paths, slowest first.
+     */
+    public List<ResolutionPath> getSlowestPaths() {
+        return slowestPaths;
+    }
+
+    /**
+     * Formats the statistics as a text report.
+     * <p>
+     * The report lists the type statistics and the generator statistics, each
+     * sorted in the specified order, followed by the slowest paths.
+     * </p>
+     *
+     * @param order the order of the statistics, such as
+     *              {@link ResolutionStatistics#BY_SELF_TIME}.
+     * @return the text report.
+     * @throws IllegalArgumentException if {@code order} is {@code null}.
+     */
+    public String report(Comparator<ResolutionStatistics> order) {
+        if (order == null) {
+            throw new IllegalArgumentException("The argument 'order' is null.");
+        }
+
+        StringBuilder report = new StringBuilder();
+        appendSection(report, "Types", sort(typeStatistics, order));
+        appendSection(report, "Generators", sort(generatorStatistics, order));
+        appendSection(report, "Slowest paths", slowestPaths);
+        return report.toString();
+    }
+
+    private static List<ResolutionStatistics> sort(
+        List<ResolutionStatistics> statistics,
+        Comparator<ResolutionStatistics> order
+    ) {
+        List<ResolutionStatistics> sorted = new ArrayList<>(statistics);
+        sorted.sort(order);
+        return sorted;
+    }
+
+    private static void appendSection(
+        StringBuilder report,
+        String title,
+        List<?> lines
+    ) {
+        report.append(title).append(System.lineSeparator());
+        for (Object line : lines) {
+            report.append("  ").append(line).append(System.lineSeparator());
+        }
+    }
+
+    /**
+     * Formats the statistics as a text report sorted by self time.
+     *
+     * @return the text report.
+     * @see #report(Comparator)
+     */
+    @Override
+    public String toString() {
+        return report(ResolutionStatistics.BY_SELF_TIME);
+    }
+}
@@ -0,0 +1,193 @@
+package autoparams;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import autoparams.generator.ObjectGenerator;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Comparator.comparingLong;
+
+class ResolutionProfiler {
+
+    private static final int SLOWEST_PATH_LIMIT = 10;
+
+    private final ThreadLocal<Session> sessions =
+        ThreadLocal.withInitial(Session::new);
+    private final Map<Type, Accumulator> types = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Accumulator> generators =
+        new ConcurrentHashMap<>();
+    private final PriorityQueue<ResolutionPath> slowestPaths =
+        new PriorityQueue<>(comparingLong(ResolutionPath::getSelfNanos));
+    private volatile long slowestPathThreshold = -1;
+    private volatile boolean enabled = false;
+
+    public void enable() {
+        this.enabled = true;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void onResolving(ObjectQuery query) {
+        if (!enabled) {
+            return;
+        }
+
+        Session session = sessions.get();
+        Frame frame = new Frame(query, session.top);
+        session.top = frame;
+        frame.startTime = System.nanoTime();
+    }
+
+    public void onResolved(ObjectGenerator generator) {
+        if (!enabled) {
+            return;
+        }
+
+        long endTime = System.nanoTime();
+        Session session = sessions.get();
+        Frame frame = session.top;
+        if (frame == null) {
+            return;
+        }
+
+        session.top = frame.parent;
+
+        long total = endTime - frame.startTime;
+        long self = total - frame.childTime;
+        if (frame.parent != null) {
+            frame.parent.childTime += total;
+        }
+
+        accumulate(types, frame.query.getType(), total, self);
+        if (generator != null) {
+            accumulate(generators, generator.getClass(), total, self);
+        }
+
+        recordPath(frame, self, total);
+    }
+
+    private static <K> void accumulate(
+        Map<K, Accumulator> accumulators,
+        K key,
+        long total,
+        long self
+    ) {
+        Accumulator accumulator = accumulators.get(key);
+        if (accumulator == null) {
+            accumulator = accumulators.computeIfAbsent(
+                key,
+                k -> new Accumulator()
+            );
+        }
+
+        accumulator.add(total, self);
+    }
+
+    private void recordPath(Frame frame, long self, long total) {
+        if (self <= slowestPathThreshold) {
+            return;
+        }
+
+        synchronized (slowestPaths) {
+            if (slowestPaths.size() == SLOWEST_PATH_LIMIT) {
+                if (slowestPaths.peek().getSelfNanos() >= self) {
+                    return;
+                }
+
+                slowestPaths.poll();
+            }
+
+            slowestPaths.add(new ResolutionPath(getPath(frame), self, total));
+            if (slowestPaths.size() == SLOWEST_PATH_LIMIT) {
+                slowestPathThreshold = slowestPaths.peek().getSelfNanos();
+            }
+        }
+    }
+
+    private static List<String> getPath(Frame frame) {
+        List<String> path = new ArrayList<>();
+        for (Frame current = frame; current != null; current = current.parent) {
+            path.add(0, TypeFormatter.format(current.query.getType(), false));
+        }
+
+        return unmodifiableList(path);
+    }
+
+    public ResolutionProfile getProfile() {
+        List<ResolutionStatistics> typeStatistics = new ArrayList<>();
+        for (Map.Entry<Type, Accumulator> entry : types.entrySet()) {
+            String name = TypeFormatter.format(entry.getKey(), false);
+            typeStatistics.add(entry.getValue().toStatistics(name));
+        }
+
+        List<ResolutionStatistics> generatorStatistics = new ArrayList<>();
+        for (Map.Entry<Class<?>, Accumulator> entry : generators.entrySet()) {
+            String name = entry.getKey().getName();
+            generatorStatistics.add(entry.getValue().toStatistics(name));
+        }
+
+        List<ResolutionPath> paths;
+        synchronized (slowestPaths) {
+            paths = new ArrayList<>(slowestPaths);
+        }
+
+        paths.sort(comparingLong(ResolutionPath::getSelfNanos).reversed());
+        return new ResolutionProfile(
+            typeStatistics,
+            generatorStatistics,
+            paths
+        );
+    }
+
+    private static class Session {
+
+        Frame top;
+    }
+
+    private static class Frame {
+
+        final ObjectQuery query;
+        final Frame parent;
+        long startTime;
+        long childTime;
+
+        Frame(ObjectQuery query, Frame parent) {
+            this.query = query;
+            this.parent = parent;
+        }
+    }
+
+    private static class Accumulator {
+
+        final LongAdder count = new LongAdder();
+        final LongAdder totalTime = new LongAdder();
+        final LongAdder selfTime = new LongAdder();
+        final AtomicLong maxTime = new AtomicLong();
+
+        void add(long total, long self) {
+            count.increment();
+            totalTime.add(total);
+            selfTime.add(self);
+            maxTime.accumulateAndGet(total, Math::max);
+        }
+
+        ResolutionStatistics toStatistics(String name) {
+            return new ResolutionStatistics(
+                name,
+                count.sum(),
+                totalTime.sum(),
+                selfTime.sum(),
+                maxTime.get()
+            );
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package autoparams;
+
+import java.util.Comparator;
+
+/**
+ * Represents the aggregated timing of resolutions that share a query type or
+ * an object generator.
+ * <p>
+ * Instances of this class are immutable snapshots taken by
+ * {@link ResolutionContext#getProfile()}. All times are measured with
+ * {@link System#nanoTime()}. The total time of a resolution includes the
+ * resolutions nested in it, whereas its self time excludes them.
+ * </p>
+ *
+ * @see ResolutionProfile
+ * @see ResolutionContext#enableProfiling()
+ */
+public final class ResolutionStatistics {
+
+    /**
+     * Orders statistics by their number of resolutions, largest first.
+     */
+    public static final Comparator<ResolutionStatistics> BY_COUNT =
+        Comparator.comparingLong(ResolutionStatistics::getCount).reversed();
+
+    /**
+     * Orders statistics by their total time, largest first.
+     */
+    public static final Comparator<ResolutionStatistics> BY_TOTAL_TIME =
+        Comparator.comparingLong(ResolutionStatistics::getTotalNanos).reversed();
+
+    /**
+     * Orders statistics by their self time, largest first.
+     */
+    public static final Comparator<ResolutionStatistics> BY_SELF_TIME =
+        Comparator.comparingLong(ResolutionStatistics::getSelfNanos).reversed();
+
+    private final String name;
+    private final long count;
+    private final long totalNanos;
+    private final long selfNanos;
+    private final long maxNanos;
+
+    ResolutionStatistics(
+        String name,
+        long count,
+        long totalNanos,
+        long selfNanos,
+        long maxNanos
+    ) {
+        this.name = name;
+        this.count = count;
+        this.totalNanos = totalNanos;
+        this.selfNanos = selfNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Returns the name of the query type or the class name of the object
+     * generator that the statistics belong to.
+     *
+     * @return the name of the statistics.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of resolutions.
+     *
+     * @return the number of resolutions.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the sum of the total times of the resolutions.
+     *
+     * @return the total time in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Returns the sum of the self times of the resolutions.
+     *
+     * @return the self time in nanoseconds.
+     */
+    public long getSelfNanos() {
+        return selfNanos;
+    }
+
+    /**
+     * Returns the longest total time of a single resolution.
+     *
+     * @return the longest total time in nanoseconds.
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return name
+            + " count=" + count
+            + " total=" + formatNanos(totalNanos)
+            + " self=" + formatNanos(selfNanos)
+            + " max=" + formatNanos(maxNanos);
+    }
+
+    static String formatNanos(long nanos) {
+        return String.format("%.3fms", nanos / 1_000_000.0);
+    }
+}
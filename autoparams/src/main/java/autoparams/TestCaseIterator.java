@@ -0,0 +1,46 @@
+package autoparams;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.params.provider.Arguments;
+
+final class TestCaseIterator implements Iterator<Arguments> {
+
+    private final TestResolutionContext template;
+    private final Iterator<? extends Arguments> assets;
+    private final int repetition;
+    private Arguments asset;
+    private int remaining;
+
+    TestCaseIterator(
+        TestResolutionContext template,
+        Iterator<? extends Arguments> assets,
+        int repetition
+    ) {
+        this.template = template;
+        this.assets = assets;
+        this.repetition = repetition;
+        this.remaining = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return remaining > 0 || assets.hasNext();
+    }
+
+    @Override
+    public Arguments next() {
+        if (remaining == 0) {
+            if (assets.hasNext() == false) {
+                throw new NoSuchElementException();
+            }
+
+            asset = assets.next();
+            remaining = repetition;
+        }
+
+        remaining--;
+        return template.fork().getTestCase(asset);
+    }
+}
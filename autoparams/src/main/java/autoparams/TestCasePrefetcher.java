@@ -0,0 +1,130 @@
+package autoparams;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.junit.jupiter.params.provider.Arguments;
+
+final class TestCasePrefetcher implements Iterator<Arguments>, AutoCloseable {
+
+    private static final Object END = new Object();
+
+    private final Iterator<Arguments> testCases;
+    private final BlockingQueue<Object> queue;
+    private final Thread worker;
+    private Object next;
+
+    private TestCasePrefetcher(Iterator<Arguments> testCases, int capacity) {
+        this.testCases = testCases;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.worker = new Thread(this::produce, "autoparams-prefetch");
+    }
+
+    static TestCasePrefetcher start(
+        Iterator<Arguments> testCases,
+        int capacity
+    ) {
+        TestCasePrefetcher prefetcher = new TestCasePrefetcher(
+            testCases,
+            capacity
+        );
+        Thread worker = prefetcher.worker;
+        worker.setDaemon(true);
+        worker.setContextClassLoader(
+            Thread.currentThread().getContextClassLoader()
+        );
+        worker.start();
+        return prefetcher;
+    }
+
+    private void produce() {
+        try {
+            try {
+                while (testCases.hasNext()) {
+                    queue.put(testCases.next());
+                }
+            } catch (InterruptedException exception) {
+                // close() interrupts the worker, so nothing is reported.
+                throw exception;
+            } catch (Throwable exception) {
+                queue.put(new Failure(exception));
+                return;
+            }
+
+            queue.put(END);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return peek() != END;
+    }
+
+    @Override
+    public Arguments next() {
+        Object item = peek();
+        if (item == END) {
+            throw new NoSuchElementException();
+        } else if (item instanceof Failure) {
+            next = END;
+            throw ((Failure) item).rethrow();
+        }
+
+        next = null;
+        return (Arguments) item;
+    }
+
+    private Object peek() {
+        if (next == null) {
+            try {
+                next = queue.take();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(exception);
+            }
+        }
+
+        return next;
+    }
+
+    @Override
+    public void close() {
+        // The worker reads the assets, so it must stop before they are closed.
+        worker.interrupt();
+        boolean interrupted = false;
+        while (worker.isAlive()) {
+            try {
+                worker.join();
+            } catch (InterruptedException exception) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Failure {
+
+        private final Throwable cause;
+
+        public Failure(Throwable cause) {
+            this.cause = cause;
+        }
+
+        public RuntimeException rethrow() {
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            } else if (cause instanceof RuntimeException) {
+                return (RuntimeException) cause;
+            }
+
+            return new RuntimeException(cause);
+        }
+    }
+}
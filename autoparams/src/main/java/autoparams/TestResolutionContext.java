@@ -16,6 +16,8 @@ import autoparams.customization.Customizer;
 import autoparams.customization.CustomizerFactory;
 import autoparams.customization.CustomizerSource;
 import autoparams.customization.RecycleArgument;
+import autoparams.generator.ObjectGenerator;
+import autoparams.processor.ObjectProcessor;
 import lombok.val;
 import org.junit.jupiter.api.Named;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -30,21 +32,66 @@ class TestResolutionContext extends ResolutionContext {
 
     private static final Object[] EMPTY_ASSET = new Object[0];
 
+    private volatile Brake brake;
+    private volatile Parameter[] testParameters;
+
+    private TestResolutionContext(LogWriter logWriter) {
+        super(ObjectGenerator.DEFAULT, ObjectProcessor.DEFAULT, logWriter);
+    }
+
+    private TestResolutionContext(TestResolutionContext template) {
+        super(template);
+        this.brake = template.getBrake();
+        this.testParameters = template.getTestParameters();
+    }
+
     static TestResolutionContext create(ExtensionContext extensionContext) {
-        val resolutionContext = new TestResolutionContext();
+        return create(extensionContext, true);
+    }
+
+    static TestResolutionContext createTemplate(
+        ExtensionContext extensionContext
+    ) {
+        return create(extensionContext, false);
+    }
 
+    private static TestResolutionContext create(
+        ExtensionContext extensionContext,
+        boolean customized
+    ) {
+        Object event = ResolutionEvents.beginTestContextCreation();
         Method method = extensionContext.getRequiredTestMethod();
-        if (method.isAnnotationPresent(LogResolution.class)) {
+        LogResolution logResolution = method.getAnnotation(LogResolution.class);
+        val resolutionContext = new TestResolutionContext(
+            getLogWriter(logResolution)
+        );
+        if (logResolution != null) {
             resolutionContext.enableLogging();
         }
 
-        resolutionContext.initialize(extensionContext);
+        resolutionContext.applyCustomizer(
+            new ExtensionContextProvider(extensionContext)
+        );
+        if (customized) {
+            resolutionContext.applyAnnotatedCustomizers(method);
+        }
+
+        ResolutionEvents.endTestContextCreation(event, method);
         return resolutionContext;
     }
 
-    private void initialize(ExtensionContext extensionContext) {
-        applyCustomizer(new ExtensionContextProvider(extensionContext));
-        applyAnnotatedCustomizers(extensionContext.getRequiredTestMethod());
+    private static LogWriter getLogWriter(LogResolution logResolution) {
+        return logResolution != null && logResolution.async()
+            ? AsyncConsoleLogWriter.INSTANCE
+            : new ConsoleLogWriter();
+    }
+
+    // The customizers of the test method are instantiated for every fork, so
+    // that customizers that keep state start over for every test case.
+    TestResolutionContext fork() {
+        TestResolutionContext fork = new TestResolutionContext(this);
+        fork.applyAnnotatedCustomizers(getTestMethod());
+        return fork;
     }
 
     private void applyAnnotatedCustomizers(AnnotatedElement element) {
@@ -110,16 +157,34 @@ class TestResolutionContext extends ResolutionContext {
     }
 
     private Brake getBrake() {
+        Brake value = brake;
+        if (value == null) {
+            value = composeBrake();
+            brake = value;
+        }
+
+        return value;
+    }
+
+    private Brake composeBrake() {
         List<Brake> brakes = new ArrayList<>();
-        ExtensionContext extensionContext = resolve(ExtensionContext.class);
-        collectBrakes(extensionContext.getRequiredTestMethod(), brakes::add);
+        collectBrakes(getTestMethod(), brakes::add);
         brakes.add(TestGearBrake.INSTANCE);
         return Brake.compose(brakes.toArray(new Brake[0]));
     }
 
     private Parameter[] getTestParameters() {
-        ExtensionContext extensionContext = resolve(ExtensionContext.class);
-        return extensionContext.getRequiredTestMethod().getParameters();
+        Parameter[] value = testParameters;
+        if (value == null) {
+            value = getTestMethod().getParameters();
+            testParameters = value;
+        }
+
+        return value;
+    }
+
+    private Method getTestMethod() {
+        return resolve(ExtensionContext.class).getRequiredTestMethod();
     }
 
     public Object resolveArgument(Parameter parameter, int index) {
@@ -172,4 +237,16 @@ class TestResolutionContext extends ResolutionContext {
         Object asset = convertAsset(query, namedAsset.getPayload());
         return Named.of(namedAsset.getName(), asset);
     }
+
+    private static final class AsyncConsoleLogWriter {
+
+        static final AsyncLogWriter INSTANCE =
+            new AsyncLogWriter(new ConsoleLogWriter());
+
+        static {
+            Runtime.getRuntime().addShutdownHook(
+                new Thread(INSTANCE::close, "autoparams-log-writer-shutdown")
+            );
+        }
+    }
 }
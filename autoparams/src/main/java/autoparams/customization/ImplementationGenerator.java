@@ -9,9 +9,11 @@ import autoparams.internal.reflect.TypeLens;
 class ImplementationGenerator implements ObjectGenerator {
 
     private final Class<?> type;
+    private final TypeLens typeLens;
 
     public ImplementationGenerator(Class<?> type) {
         this.type = type;
+        this.typeLens = new TypeLens(type);
     }
 
     @Override
@@ -19,8 +21,13 @@ class ImplementationGenerator implements ObjectGenerator {
         ObjectQuery query,
         ResolutionContext context
     ) {
-        return new TypeLens(type).implementsInterface(query.getType())
+        return typeLens.implementsInterface(query.getType())
             ? new ObjectContainer(context.resolve(type))
             : ObjectContainer.EMPTY;
     }
+
+    @Override
+    public boolean supports(Class<?> rawType) {
+        return rawType.isInterface() && rawType.isAssignableFrom(type);
+    }
 }
@@ -1,10 +1,13 @@
 package autoparams.customization;
 
 import java.lang.reflect.Type;
-import java.util.Stack;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
+import autoparams.ObjectQuery;
+import autoparams.ResolutionContext;
+import autoparams.generator.DelegatingObjectGenerator;
 import autoparams.generator.ObjectContainer;
 import autoparams.generator.ObjectGenerator;
 
@@ -39,10 +42,10 @@ public final class RecursionGuard implements Customizer {
      */
     public static final int DEFAULT_RECURSION_DEPTH = 1;
 
-    private static final ConcurrentMap<Object, RecursionContext> STORE;
+    private static final ThreadLocal<Map<Object, RecursionContext>> STORE;
 
     static {
-        STORE = new ConcurrentHashMap<>();
+        STORE = ThreadLocal.withInitial(IdentityHashMap::new);
     }
 
     private final int recursionDepth;
@@ -73,18 +76,21 @@ public final class RecursionGuard implements Customizer {
         this(DEFAULT_RECURSION_DEPTH);
     }
 
-    private class RecursionContext {
+    private static final class RecursionContext {
 
-        public final Stack<Type> monitor = new Stack<>();
+        public final Map<Type, Depth> depths = new HashMap<>();
         public final RecursionGuard guard;
-        public final Object scope;
 
-        public RecursionContext(Object scope) {
-            this.guard = RecursionGuard.this;
-            this.scope = scope;
+        public RecursionContext(RecursionGuard guard) {
+            this.guard = guard;
         }
     }
 
+    private static final class Depth {
+
+        public int value;
+    }
+
     /**
      * Customizes the provided {@link ObjectGenerator} to add recursion
      * protection.
@@ -97,12 +103,15 @@ public final class RecursionGuard implements Customizer {
      * {@link #DEFAULT_RECURSION_DEPTH}), the generation for that type is
      * interrupted. In such cases, an {@link ObjectContainer} holding
      * {@code null} is returned to break the recursion and prevent a
-     * {@link StackOverflowError}.
+     * {@link StackOverflowError}. Each interruption is reported to the
+     * {@link autoparams.ResolutionMetrics} of the context.
      * </p>
      * <p>
-     * The recursion tracking is managed per resolution context, ensuring that
-     * concurrent or nested resolution processes maintain their own recursion
-     * counts.
+     * The recursion tracking is managed per resolution context and thread,
+     * ensuring that concurrent or nested resolution processes maintain their
+     * own recursion counts. Only the outermost guard of a resolution context
+     * counts recursion, and checking a query takes constant time regardless
+     * of the recursion depth.
      * </p>
      *
      * @param generator the original {@link ObjectGenerator} to be customized.
@@ -111,39 +120,78 @@ public final class RecursionGuard implements Customizer {
      */
     @Override
     public ObjectGenerator customize(ObjectGenerator generator) {
-        return (query, context) -> {
-            final Object scope = new Object();
-
-            final RecursionContext recursionContext = STORE.computeIfAbsent(
-                context,
-                x -> new RecursionContext(scope)
-            );
+        return new GuardedGenerator(generator);
+    }
 
+    private ObjectContainer generate(
+        ObjectGenerator generator,
+        ObjectQuery query,
+        ResolutionContext context
+    ) {
+        final Map<Object, RecursionContext> store = STORE.get();
+        final RecursionContext recursionContext = store.get(context);
+        if (recursionContext == null) {
+            final RecursionContext scope = new RecursionContext(this);
+            store.put(context, scope);
             try {
-                if (recursionContext.guard.equals(this) == false) {
-                    return generator.generate(query, context);
-                }
-
-                final Stack<Type> monitor = recursionContext.monitor;
-                final Type type = query.getType();
-
-                monitor.push(type);
-                try {
-                    final long depth = monitor
-                        .stream()
-                        .filter(x -> x.equals(type))
-                        .count();
-                    return depth > recursionDepth
-                        ? new ObjectContainer(null)
-                        : generator.generate(query, context);
-                } finally {
-                    monitor.pop();
-                }
+                return generate(scope, generator, query, context);
             } finally {
-                if (recursionContext.scope.equals(scope)) {
-                    STORE.remove(context);
-                }
+                store.remove(context);
+            }
+        } else if (recursionContext.guard == this) {
+            return generate(recursionContext, generator, query, context);
+        } else {
+            return generator.generate(query, context);
+        }
+    }
+
+    private ObjectContainer generate(
+        RecursionContext recursionContext,
+        ObjectGenerator generator,
+        ObjectQuery query,
+        ResolutionContext context
+    ) {
+        final Type type = query.getType();
+        Depth depth = recursionContext.depths.get(type);
+        if (depth == null) {
+            depth = new Depth();
+            recursionContext.depths.put(type, depth);
+        }
+
+        depth.value++;
+        try {
+            if (depth.value > recursionDepth) {
+                context.getMetrics().onRecursionTruncated(query);
+                return new ObjectContainer(null);
             }
-        };
+
+            return generator.generate(query, context);
+        } finally {
+            depth.value--;
+        }
+    }
+
+    private final class GuardedGenerator implements DelegatingObjectGenerator {
+
+        private final ObjectGenerator generator;
+
+        GuardedGenerator(ObjectGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        public ObjectContainer generate(
+            ObjectQuery query,
+            ResolutionContext context
+        ) {
+            return RecursionGuard.this.generate(generator, query, context);
+        }
+
+        @Override
+        public ObjectGenerator getDelegate(Class<?> rawType) {
+            // Primitive values do not contain other objects, so generating
+            // them never recurses.
+            return rawType.isPrimitive() ? generator : null;
+        }
     }
 }
@@ -38,6 +38,11 @@ final class ArrayGenerator implements ObjectGenerator {
         }
     }
 
+    @Override
+    public boolean supports(Class<?> rawType) {
+        return rawType.isArray();
+    }
+
     private boolean isArrayType(Type type) {
         return type instanceof Class<?> && ((Class<?>) type).isArray();
     }
@@ -51,6 +56,14 @@ final class ArrayGenerator implements ObjectGenerator {
         int size,
         ResolutionContext context
     ) {
+        if (elementType == int.class) {
+            return new ObjectContainer(generateIntArray(size, context));
+        } else if (elementType == long.class) {
+            return new ObjectContainer(generateLongArray(size, context));
+        } else if (elementType == double.class) {
+            return new ObjectContainer(generateDoubleArray(size, context));
+        }
+
         Object array = Array.newInstance(elementType, size);
         ObjectQuery query = new DefaultObjectQuery(elementType);
         for (int i = 0; i < Array.getLength(array); i++) {
@@ -60,6 +73,42 @@ final class ArrayGenerator implements ObjectGenerator {
         return new ObjectContainer(array);
     }
 
+    private static int[] generateIntArray(
+        int size,
+        ResolutionContext context
+    ) {
+        int[] array = new int[size];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = context.resolveInt();
+        }
+
+        return array;
+    }
+
+    private static long[] generateLongArray(
+        int size,
+        ResolutionContext context
+    ) {
+        long[] array = new long[size];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = context.resolveLong();
+        }
+
+        return array;
+    }
+
+    private static double[] generateDoubleArray(
+        int size,
+        ResolutionContext context
+    ) {
+        double[] array = new double[size];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = context.resolveDouble();
+        }
+
+        return array;
+    }
+
     private static ObjectContainer generateArray(
         ParameterizedType elementType,
         int size,
@@ -1,7 +1,6 @@
 package autoparams.generator;
 
 import java.math.BigDecimal;
-import java.util.concurrent.ThreadLocalRandom;
 
 import autoparams.ObjectQuery;
 import autoparams.ResolutionContext;
@@ -13,7 +12,7 @@ final class BigDecimalGenerator extends ObjectGeneratorBase<BigDecimal> {
         ObjectQuery query,
         ResolutionContext context
     ) {
-        ThreadLocalRandom random = ThreadLocalRandom.current();
+        RandomSource random = context.resolve(RandomSource.class);
         int value = random.nextInt(getOrigin(), getBound());
         return new BigDecimal(value);
     }
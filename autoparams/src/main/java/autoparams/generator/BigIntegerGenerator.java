@@ -1,7 +1,6 @@
 package autoparams.generator;
 
 import java.math.BigInteger;
-import java.util.concurrent.ThreadLocalRandom;
 
 import autoparams.ObjectQuery;
 import autoparams.ResolutionContext;
@@ -13,7 +12,8 @@ final class BigIntegerGenerator extends ObjectGeneratorBase<BigInteger> {
         ObjectQuery query,
         ResolutionContext context
     ) {
-        int maxBitLength = 256;
-        return new BigInteger(maxBitLength, ThreadLocalRandom.current());
+        byte[] magnitude = new byte[256 / Byte.SIZE];
+        context.resolve(RandomSource.class).nextBytes(magnitude);
+        return new BigInteger(1, magnitude);
     }
 }
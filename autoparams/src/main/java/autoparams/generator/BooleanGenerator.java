@@ -1,7 +1,5 @@
 package autoparams.generator;
 
-import java.util.concurrent.ThreadLocalRandom;
-
 import autoparams.ObjectQuery;
 import autoparams.ResolutionContext;
 
@@ -16,6 +14,6 @@ final class BooleanGenerator extends PrimitiveTypeGenerator<Boolean> {
         ObjectQuery query,
         ResolutionContext context
     ) {
-        return ThreadLocalRandom.current().nextInt() % 2 == 0;
+        return context.resolve(RandomSource.class).nextBoolean();
     }
 }
@@ -1,7 +1,5 @@
 package autoparams.generator;
 
-import java.util.concurrent.ThreadLocalRandom;
-
 import autoparams.ObjectQuery;
 import autoparams.ResolutionContext;
 import jakarta.validation.constraints.Max;
@@ -22,7 +20,8 @@ final class ByteGenerator extends PrimitiveTypeGenerator<Byte> {
     protected Byte generateValue(ObjectQuery query, ResolutionContext context) {
         byte min = getMin(query);
         byte max = getMax(query);
-        return (byte) ThreadLocalRandom.current().nextInt(min, (max + 1));
+        RandomSource random = context.resolve(RandomSource.class);
+        return (byte) random.nextInt(min, (max + 1));
     }
 
     private static byte getMin(ObjectQuery query) {
@@ -1,7 +1,5 @@
 package autoparams.generator;
 
-import java.util.concurrent.ThreadLocalRandom;
-
 import autoparams.ObjectQuery;
 import autoparams.ResolutionContext;
 
@@ -16,7 +14,7 @@ final class CharacterGenerator extends PrimitiveTypeGenerator<Character> {
         ObjectQuery query,
         ResolutionContext context
     ) {
-        ThreadLocalRandom random = ThreadLocalRandom.current();
+        RandomSource random = context.resolve(RandomSource.class);
         return (char) random.nextInt(Character.MIN_VALUE, Character.MAX_VALUE);
     }
 }
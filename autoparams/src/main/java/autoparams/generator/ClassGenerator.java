@@ -18,6 +18,11 @@ final class ClassGenerator implements ObjectGenerator {
             : ObjectContainer.EMPTY;
     }
 
+    @Override
+    public boolean supports(Class<?> rawType) {
+        return rawType.equals(Class.class);
+    }
+
     private static boolean matches(Type type) {
         return type instanceof ParameterizedType
             && ((ParameterizedType) type).getRawType().equals(Class.class);
@@ -1,19 +1,18 @@
 package autoparams.generator;
 
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
-import java.lang.reflect.Parameter;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import autoparams.ObjectQuery;
-import autoparams.ParameterQuery;
 import autoparams.ResolutionContext;
-import autoparams.internal.reflect.RuntimeTypeResolver;
 
 final class ComplexObjectGenerator implements ObjectGenerator {
 
+    private static final Object PLANS = new Object();
+
     @Override
     public ObjectContainer generate(
         ObjectQuery query,
@@ -24,93 +23,56 @@ final class ComplexObjectGenerator implements ObjectGenerator {
 
     private ObjectContainer generate(ResolutionContext context, Type type) {
         if (type instanceof Class<?>) {
-            return generateObject((Class<?>) type, context);
+            return generateObject(type, (Class<?>) type, context);
         } else if (type instanceof ParameterizedType) {
-            return generateObject((ParameterizedType) type, context);
+            Class<?> rawType = (Class<?>) ((ParameterizedType) type).getRawType();
+            return generateObject(type, rawType, context);
         } else {
             return ObjectContainer.EMPTY;
         }
     }
 
-    private ObjectContainer generateObject(
-        Class<?> type,
-        ResolutionContext context
-    ) {
-        if (isAbstract(type)) {
-            return ObjectContainer.EMPTY;
-        }
-
-        Constructor<?> constructor = resolveConstructor(type, context);
-
-        Parameter[] parameters = constructor.getParameters();
-        ObjectQuery[] argumentQueries = new ObjectQuery[parameters.length];
-        for (int index = 0; index < parameters.length; index++) {
-            Parameter parameter = parameters[index];
-            argumentQueries[index] = new ParameterQuery(
-                parameter,
-                index,
-                parameter.getAnnotatedType().getType()
-            );
-        }
-
-        Object value = createInstance(constructor, argumentQueries, context);
-        return new ObjectContainer(value);
+    @Override
+    public boolean supports(Class<?> rawType) {
+        return isAbstract(rawType) == false;
     }
 
     private ObjectContainer generateObject(
-        ParameterizedType type,
+        Type type,
+        Class<?> rawType,
         ResolutionContext context
     ) {
-        Class<?> rawType = (Class<?>) type.getRawType();
-
         if (isAbstract(rawType)) {
             return ObjectContainer.EMPTY;
         }
 
-        Constructor<?> constructor = resolveConstructor(rawType, context);
-
-        RuntimeTypeResolver typeResolver = RuntimeTypeResolver.create(type);
-        Parameter[] parameters = constructor.getParameters();
-        ObjectQuery[] argumentQueries = new ObjectQuery[parameters.length];
-        for (int index = 0; index < parameters.length; index++) {
-            Parameter parameter = parameters[index];
-            argumentQueries[index] = new ParameterQuery(
-                parameter,
-                index,
-                typeResolver.resolve(parameter.getAnnotatedType().getType())
-            );
-        }
-
-        Object value = createInstance(constructor, argumentQueries, context);
-        return new ObjectContainer(value);
+        ConstructionPlan plan = getPlan(type, rawType, context);
+        return new ObjectContainer(plan.createInstance(context));
     }
 
-    private static Constructor<?> resolveConstructor(
-        Class<?> type,
+    private static ConstructionPlan getPlan(
+        Type type,
+        Class<?> rawType,
         ResolutionContext context
     ) {
-        return context
-            .resolve(ConstructorResolver.class)
-            .resolveOrElseThrow(type);
+        Map<Type, ConstructionPlan> plans =
+            context.memoize(PLANS, ConcurrentHashMap::new);
+        ConstructionPlan plan = plans.get(type);
+        if (plan != null) {
+            context.getMetrics().onConstructionPlanHit(type);
+        } else {
+            context.getMetrics().onConstructionPlanMiss(type);
+            plan = ConstructionPlan.create(type, rawType, context);
+            ConstructionPlan previous = plans.putIfAbsent(type, plan);
+            if (previous != null) {
+                plan = previous;
+            }
+        }
+
+        return plan;
     }
 
     private boolean isAbstract(Class<?> type) {
         return type.isInterface() || Modifier.isAbstract(type.getModifiers());
     }
-
-    private Object createInstance(
-        Constructor<?> constructor,
-        ObjectQuery[] argumentQueries,
-        ResolutionContext context
-    ) {
-        try {
-            Object[] arguments = Arrays
-                .stream(argumentQueries)
-                .map(context::resolve)
-                .toArray();
-            return constructor.newInstance(arguments);
-        } catch (Exception exception) {
-            throw new RuntimeException(exception);
-        }
-    }
 }
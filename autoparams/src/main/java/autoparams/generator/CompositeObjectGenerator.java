@@ -1,10 +1,13 @@
 package autoparams.generator;
 
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+
 import autoparams.ObjectQuery;
 import autoparams.ResolutionContext;
-
-import static autoparams.internal.Folder.foldl;
-import static java.util.Arrays.stream;
+import autoparams.ResolutionMetrics;
+import autoparams.internal.GenerationTrace;
 
 /**
  * An {@link ObjectGenerator} that composes multiple {@link ObjectGenerator}
@@ -18,13 +21,27 @@ import static java.util.Arrays.stream;
  * generator will also fail to produce an object, typically by returning
  * {@link ObjectContainer#EMPTY}.
  * </p>
+ * <p>
+ * Generators that declare through {@link ObjectGenerator#supports(Class)} that
+ * they cannot handle the raw type of a query are skipped. The candidates for
+ * each raw type are computed once and cached on the raw type, so the cache
+ * does not keep the type alive, and they keep the order in which the
+ * generators were provided.
+ * </p>
+ * <p>
+ * Each composed generator that is asked for an object is reported to the
+ * {@link ResolutionMetrics} of the context as a hit or a miss, except for
+ * {@link DelegatingObjectGenerator} instances such as nested composites,
+ * whose results are reported by the generators they delegate to.
+ * </p>
  *
  * @see ObjectGenerator
  * @see ObjectContainer
  */
-public class CompositeObjectGenerator implements ObjectGenerator {
+public class CompositeObjectGenerator implements DelegatingObjectGenerator {
 
     private final ObjectGenerator[] generators;
+    private final ClassValue<ObjectGenerator[]> candidates;
 
     /**
      * Creates a new instance of {@link CompositeObjectGenerator} with the
@@ -40,6 +57,13 @@ public class CompositeObjectGenerator implements ObjectGenerator {
      */
     public CompositeObjectGenerator(ObjectGenerator... generators) {
         this.generators = generators;
+        this.candidates = new ClassValue<ObjectGenerator[]>() {
+
+            @Override
+            protected ObjectGenerator[] computeValue(Class<?> type) {
+                return collectCandidates(type);
+            }
+        };
     }
 
     @Override
@@ -47,11 +71,83 @@ public class CompositeObjectGenerator implements ObjectGenerator {
         ObjectQuery query,
         ResolutionContext context
     ) {
-        return foldl(
-            (result, generator) -> result
-                .yieldIfEmpty(() -> generator.generate(query, context)),
-            ObjectContainer.EMPTY,
-            stream(generators)
-        );
+        ResolutionMetrics metrics = context.getMetrics();
+        for (ObjectGenerator generator : selectCandidates(query.getType())) {
+            ObjectContainer result = generator.generate(query, context);
+            boolean leaf = generator instanceof DelegatingObjectGenerator == false;
+            if (result != ObjectContainer.EMPTY) {
+                GenerationTrace.onGenerated(generator);
+                if (leaf) {
+                    metrics.onGeneratorHit(generator, query);
+                }
+                return result;
+            }
+
+            if (leaf) {
+                metrics.onGeneratorMiss(generator, query);
+            }
+        }
+
+        return ObjectContainer.EMPTY;
+    }
+
+    /**
+     * Determines whether any of the composed generators can generate objects
+     * for queries of the specified raw type.
+     *
+     * @param rawType the raw type of a query
+     * @return {@code true} if at least one of the composed generators supports
+     *         {@code rawType}; otherwise, {@code false}
+     */
+    @Override
+    public boolean supports(Class<?> rawType) {
+        return getCandidates(rawType).length > 0;
+    }
+
+    /**
+     * Returns the composed generator that is asked first for queries of the
+     * specified raw type.
+     * <p>
+     * The result of the returned generator is returned unchanged whenever it
+     * produces an object.
+     * </p>
+     *
+     * @param rawType the raw type of a query
+     * @return the first composed generator that supports {@code rawType}, or
+     *         {@code null} if none of the composed generators supports it
+     */
+    @Override
+    public ObjectGenerator getDelegate(Class<?> rawType) {
+        ObjectGenerator[] candidates = getCandidates(rawType);
+        return candidates.length > 0 ? candidates[0] : null;
+    }
+
+    private ObjectGenerator[] selectCandidates(Type type) {
+        if (type instanceof Class<?>) {
+            return getCandidates((Class<?>) type);
+        } else if (type instanceof ParameterizedType) {
+            Type rawType = ((ParameterizedType) type).getRawType();
+            return rawType instanceof Class<?>
+                ? getCandidates((Class<?>) rawType)
+                : generators;
+        } else {
+            return generators;
+        }
+    }
+
+    private ObjectGenerator[] getCandidates(Class<?> rawType) {
+        return candidates.get(rawType);
+    }
+
+    private ObjectGenerator[] collectCandidates(Class<?> rawType) {
+        int count = 0;
+        ObjectGenerator[] result = new ObjectGenerator[generators.length];
+        for (ObjectGenerator generator : generators) {
+            if (generator.supports(rawType)) {
+                result[count++] = generator;
+            }
+        }
+
+        return count == result.length ? result : Arrays.copyOf(result, count);
     }
 }
@@ -0,0 +1,92 @@
+package autoparams.generator;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+import autoparams.ObjectQuery;
+import autoparams.ParameterQuery;
+import autoparams.ResolutionContext;
+import autoparams.internal.reflect.ConstructorInvoker;
+import autoparams.internal.reflect.RuntimeTypeResolver;
+
+final class ConstructionPlan {
+
+    private final ConstructorInvoker invoker;
+    private final ObjectQuery[] argumentQueries;
+
+    private ConstructionPlan(
+        ConstructorInvoker invoker,
+        ObjectQuery[] argumentQueries
+    ) {
+        this.invoker = invoker;
+        this.argumentQueries = argumentQueries;
+    }
+
+    public static ConstructionPlan create(
+        Type type,
+        Class<?> rawType,
+        ResolutionContext context
+    ) {
+        Constructor<?> constructor = context
+            .resolve(ConstructorResolver.class)
+            .resolveOrElseThrow(rawType);
+
+        RuntimeTypeResolver typeResolver = type instanceof ParameterizedType
+            ? RuntimeTypeResolver.create(type)
+            : null;
+        Parameter[] parameters = constructor.getParameters();
+        ObjectQuery[] argumentQueries = new ObjectQuery[parameters.length];
+        for (int index = 0; index < parameters.length; index++) {
+            Parameter parameter = parameters[index];
+            Type parameterType = parameter.getAnnotatedType().getType();
+            argumentQueries[index] = new ParameterQuery(
+                parameter,
+                index,
+                typeResolver == null
+                    ? parameterType
+                    : typeResolver.resolve(parameterType)
+            );
+        }
+
+        return new ConstructionPlan(
+            ConstructorInvoker.get(constructor),
+            argumentQueries
+        );
+    }
+
+    public Object createInstance(ResolutionContext context) {
+        try {
+            Object[] arguments = new Object[argumentQueries.length];
+            for (int index = 0; index < arguments.length; index++) {
+                arguments[index] = resolveArgument(
+                    argumentQueries[index],
+                    context
+                );
+            }
+
+            return invoker.newInstance(arguments);
+        } catch (Exception exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private static Object resolveArgument(
+        ObjectQuery query,
+        ResolutionContext context
+    ) {
+        // Constructors are invoked with boxed arguments, but primitive
+        // arguments still skip the object generator chain.
+        Type type = query.getType();
+        if (type == int.class) {
+            return context.resolveInt(query);
+        } else if (type == long.class) {
+            return context.resolveLong(query);
+        } else if (type == double.class) {
+            return context.resolveDouble(query);
+        } else {
+            return context.resolve(query);
+        }
+    }
+}
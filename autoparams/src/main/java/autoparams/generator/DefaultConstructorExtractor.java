@@ -3,12 +3,12 @@ package autoparams.generator;
 import java.lang.reflect.Constructor;
 import java.util.Collection;
 
-import static java.util.Arrays.asList;
+import autoparams.internal.reflect.ClassModel;
 
 final class DefaultConstructorExtractor implements ConstructorExtractor {
 
     @Override
     public Collection<Constructor<?>> extract(Class<?> type) {
-        return asList(type.getConstructors());
+        return ClassModel.of(type).getConstructors();
     }
 }
@@ -9,6 +9,7 @@ final class DefaultObjectGenerator extends CompositeObjectGenerator {
             new RecursionGuard().customize(
                 new CompositeObjectGenerator(
                     new ResolutionContextGenerator(),
+                    new RandomSourceProvider(),
                     new PrimitiveValueGenerator(),
                     new RootGenerator(),
                     new ClassGenerator(),
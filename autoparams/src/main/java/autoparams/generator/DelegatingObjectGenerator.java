@@ -0,0 +1,32 @@
+package autoparams.generator;
+
+import autoparams.ResolutionContext;
+
+/**
+ * An {@link ObjectGenerator} that can tell which generator answers the
+ * queries of a raw type on its behalf.
+ * <p>
+ * {@link ResolutionContext} follows the delegates of its object generator to
+ * find the generator that answers queries of a primitive type. If the search
+ * ends at a generator such as {@link IntValueGenerator}, primitive values are
+ * generated without boxing them.
+ * </p>
+ *
+ * @see CompositeObjectGenerator
+ * @see IntValueGenerator
+ * @see LongValueGenerator
+ * @see DoubleValueGenerator
+ */
+public interface DelegatingObjectGenerator extends ObjectGenerator {
+
+    /**
+     * Returns the generator whose result this generator returns unchanged for
+     * every query of the specified raw type, provided that the returned
+     * generator produces an object for the query.
+     *
+     * @param rawType the raw type of a query
+     * @return the delegate generator, or {@code null} if this generator does
+     *         not pass the queries of {@code rawType} to a single generator.
+     */
+    ObjectGenerator getDelegate(Class<?> rawType);
+}
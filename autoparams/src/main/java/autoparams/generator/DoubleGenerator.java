@@ -1,7 +1,6 @@
 package autoparams.generator;
 
 import java.lang.reflect.Parameter;
-import java.util.concurrent.ThreadLocalRandom;
 
 import autoparams.ObjectQuery;
 import autoparams.ParameterQuery;
@@ -9,20 +8,17 @@ import autoparams.ResolutionContext;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 
-final class DoubleGenerator extends PrimitiveTypeGenerator<Double> {
-
-    DoubleGenerator() {
-        super(double.class, Double.class);
-    }
+final class DoubleGenerator implements DoubleValueGenerator {
 
     @Override
-    protected Double generateValue(
+    public double generateDouble(
         ObjectQuery query,
         ResolutionContext context
     ) {
         double origin = getOrigin(query);
         double bound = getBound(query);
-        return ThreadLocalRandom.current().nextDouble(origin, bound);
+        RandomSource random = context.resolve(RandomSource.class);
+        return random.nextDouble(origin, bound);
     }
 
     private static double getOrigin(ObjectQuery query) {
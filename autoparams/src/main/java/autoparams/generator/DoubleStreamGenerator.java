@@ -15,7 +15,7 @@ final class DoubleStreamGenerator extends ObjectGeneratorBase<DoubleStream> {
         ResolutionContext context
     ) {
         return DoubleStream
-            .generate(() -> context.resolve(double.class))
+            .generate(context::resolveDouble)
             .limit(getSize(query));
     }
 }
@@ -0,0 +1,75 @@
+package autoparams.generator;
+
+import java.lang.reflect.Type;
+
+import autoparams.ObjectQuery;
+import autoparams.ResolutionContext;
+
+/**
+ * An {@link ObjectGenerator} that generates {@code double} values without
+ * boxing them.
+ * <p>
+ * A generator of this type generates a value for every query whose type is
+ * {@code double} or {@link Double}. When it is the generator that would answer
+ * {@code double} queries of a {@link ResolutionContext},
+ * {@link ResolutionContext#resolveDouble(ObjectQuery)} calls
+ * {@link #generateDouble(ObjectQuery, ResolutionContext)} directly instead of passing
+ * a boxed value through the object generators of the context. Primitive
+ * arrays and {@link java.util.stream.DoubleStream} objects are filled this way.
+ * </p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>
+ * ResolutionContext context = new ResolutionContext();
+ * context.applyCustomizer((DoubleValueGenerator) (query, ctx) -&gt; 0.5);
+ * double value = context.resolveDouble();
+ * </pre>
+ *
+ * @see ResolutionContext#resolveDouble(ObjectQuery)
+ */
+@FunctionalInterface
+public interface DoubleValueGenerator extends ObjectGenerator {
+
+    /**
+     * Generates a {@code double} value for the given {@link ObjectQuery} with
+     * the specified {@link ResolutionContext}.
+     *
+     * @param query   the object query whose type is {@code double} or
+     *                {@link Double}
+     * @param context the resolution context for value generation
+     * @return the generated value
+     */
+    double generateDouble(ObjectQuery query, ResolutionContext context);
+
+    /**
+     * Generates a boxed value with {@link #generateDouble(ObjectQuery, ResolutionContext)}
+     * if the type of the query is {@code double} or {@link Double}.
+     *
+     * @param query   the object query describing the requested object
+     * @param context the resolution context for object generation
+     * @return an {@link ObjectContainer} with the generated value, or
+     *         {@link ObjectContainer#EMPTY} for other types
+     */
+    @Override
+    default ObjectContainer generate(
+        ObjectQuery query,
+        ResolutionContext context
+    ) {
+        Type type = query.getType();
+        return type.equals(double.class) || type.equals(Double.class)
+            ? new ObjectContainer(generateDouble(query, context))
+            : ObjectContainer.EMPTY;
+    }
+
+    /**
+     * Determines whether the raw type is {@code double} or {@link Double}.
+     *
+     * @param rawType the raw type of a query
+     * @return {@code true} if {@code rawType} is {@code double} or
+     *         {@link Double}; otherwise, {@code false}
+     */
+    @Override
+    default boolean supports(Class<?> rawType) {
+        return rawType.equals(double.class) || rawType.equals(Double.class);
+    }
+}
@@ -1,7 +1,6 @@
 package autoparams.generator;
 
 import java.time.Duration;
-import java.util.concurrent.ThreadLocalRandom;
 
 import autoparams.ObjectQuery;
 import autoparams.ResolutionContext;
@@ -13,7 +12,7 @@ final class DurationGenerator extends ObjectGeneratorBase<Duration> {
         ObjectQuery query,
         ResolutionContext context
     ) {
-        ThreadLocalRandom random = ThreadLocalRandom.current();
+        RandomSource random = context.resolve(RandomSource.class);
         int hours = random.nextInt(1, 48 + 1);
         return Duration.ofHours(hours);
     }
@@ -3,7 +3,6 @@ package autoparams.generator;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Parameter;
-import java.util.UUID;
 
 import autoparams.ParameterQuery;
 import autoparams.ResolutionContext;
@@ -35,6 +34,11 @@ final class EmailAddressStringGenerator implements ArgumentGenerator {
             : ObjectContainer.EMPTY;
     }
 
+    @Override
+    public boolean supports(Class<?> rawType) {
+        return rawType.equals(String.class);
+    }
+
     private static boolean typeMatches(ParameterQuery query) {
         return query.getType().equals(String.class);
     }
@@ -63,8 +67,9 @@ final class EmailAddressStringGenerator implements ArgumentGenerator {
 
     private ObjectContainer generateEmailAddress(ResolutionContext context) {
         EmailAddressGenerationOptions options = getOptions(context);
-        String localPart = UUID.randomUUID().toString();
-        String domainPart = getDomain(options);
+        RandomSource random = context.resolve(RandomSource.class);
+        String localPart = RandomIdentifiers.next(random);
+        String domainPart = getDomain(random, options);
         return new ObjectContainer(localPart + "@" + domainPart);
     }
 
@@ -74,7 +79,10 @@ final class EmailAddressStringGenerator implements ArgumentGenerator {
         return context.resolve(EmailAddressGenerationOptions.class);
     }
 
-    private String getDomain(EmailAddressGenerationOptions options) {
-        return sample(options.domains());
+    private String getDomain(
+        RandomSource random,
+        EmailAddressGenerationOptions options
+    ) {
+        return sample(random, options.domains());
     }
 }
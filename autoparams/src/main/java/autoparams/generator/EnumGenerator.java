@@ -4,7 +4,6 @@ import java.lang.reflect.Type;
 import java.util.EnumSet;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ThreadLocalRandom;
 
 import autoparams.ObjectQuery;
 import autoparams.ResolutionContext;
@@ -20,18 +19,24 @@ final class EnumGenerator implements ObjectGenerator {
     ) {
         Type type = query.getType();
         return isEnum(type)
-            ? new ObjectContainer(generateValue((Class<?>) type))
+            ? new ObjectContainer(generateValue((Class<?>) type, context))
             : ObjectContainer.EMPTY;
     }
 
+    @Override
+    public boolean supports(Class<?> rawType) {
+        return Enum.class.isAssignableFrom(rawType);
+    }
+
     private static boolean isEnum(Type type) {
         return type instanceof Class
             && Enum.class.isAssignableFrom((Class<?>) type);
     }
 
-    private Object generateValue(Class<?> enumType) {
+    private Object generateValue(Class<?> enumType, ResolutionContext context) {
         Object[] values = getValues(enumType);
-        int index = ThreadLocalRandom.current().nextInt(values.length);
+        RandomSource random = context.resolve(RandomSource.class);
+        int index = random.nextInt(values.length);
         return values[index];
     }
 
@@ -1,7 +1,12 @@
 package autoparams.generator;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -41,6 +46,8 @@ import static java.util.stream.Collectors.toList;
  */
 public final class Factory<T> implements Supplier<T> {
 
+    private static final int BLOCK_SIZE = 64;
+
     private final ResolutionContext context;
     private final Type type;
 
@@ -438,6 +445,158 @@ public final class Factory<T> implements Supplier<T> {
         return stream(customizers).limit(count).collect(toList());
     }
 
+    /**
+     * Returns an unmodifiable {@link List} containing a specified number of
+     * instances of the type managed by this factory, generating them in
+     * parallel on the {@link ForkJoinPool#commonPool() common pool}.
+     * <p>
+     * This method splits the generation into chunks that run concurrently.
+     * The instances are generated independently, and the returned list keeps
+     * the order of the chunks, so its contents are stable once returned. Use
+     * this method to build large amounts of test data on multi-core machines.
+     * </p>
+     * <p>
+     * Each fixed-size block of the list draws its random values from its own
+     * split of the {@link RandomSource} of the context, taken in list order.
+     * With a seeded source, such as one registered by
+     * {@link RandomSourceProvider}, the same count therefore yields the same
+     * list no matter how the blocks are scheduled.
+     * </p>
+     *
+     * <p>
+     * <b>Note:</b> The provided customizers only affect the generated instances
+     * in the list and do not modify the state of this {@link Factory} itself.
+     * Custom generators and processors are invoked from multiple threads, so
+     * they must be thread-safe.
+     * </p>
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * Factory&lt;Order&gt; factory = Factory.create(Order.class);
+     * List&lt;Order&gt; orders = factory.getParallel(100_000);
+     * assertEquals(100_000, orders.size());
+     * </pre>
+     *
+     * @param count       the number of instances to generate; must not be negative
+     * @param customizers customizers to apply to each generated instance
+     *                    (optional; does not affect this Factory)
+     * @return an unmodifiable {@link List} containing {@code count} instances
+     *         of type {@code T}
+     * @throws IllegalArgumentException if {@code count} is negative
+     * @see #getParallel(int, Executor, Customizer...)
+     */
+    public List<T> getParallel(int count, Customizer... customizers) {
+        return getParallel(count, ForkJoinPool.commonPool(), customizers);
+    }
+
+    /**
+     * Returns an unmodifiable {@link List} containing a specified number of
+     * instances of the type managed by this factory, generating them in
+     * parallel on the given {@link Executor}.
+     * <p>
+     * This method behaves like {@link #getParallel(int, Customizer...)} but
+     * runs the generation chunks on {@code executor}. The calling thread
+     * waits until all chunks complete. If generating an instance fails, the
+     * exception is rethrown on the calling thread.
+     * </p>
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * ExecutorService executor = Executors.newFixedThreadPool(8);
+     * Factory&lt;Order&gt; factory = Factory.create(Order.class);
+     * List&lt;Order&gt; orders = factory.getParallel(1_000_000, executor);
+     * </pre>
+     *
+     * @param count       the number of instances to generate; must not be negative
+     * @param executor    the executor that runs the generation
+     * @param customizers customizers to apply to each generated instance
+     *                    (optional; does not affect this Factory)
+     * @return an unmodifiable {@link List} containing {@code count} instances
+     *         of type {@code T}
+     * @throws IllegalArgumentException if {@code count} is negative or
+     *                                  {@code executor} is {@code null}
+     * @see #getParallel(int, Customizer...)
+     */
+    public List<T> getParallel(
+        int count,
+        Executor executor,
+        Customizer... customizers
+    ) {
+        if (count < 0) {
+            throw new IllegalArgumentException("The argument 'count' must not be less than 0.");
+        }
+
+        if (executor == null) {
+            throw new IllegalArgumentException("The argument 'executor' is null.");
+        }
+
+        Factory<T> factory = branch(customizers);
+        List<Supplier<List<T>>> blocks = factory.createBlocks(count);
+        int chunks = Math.min(blocks.size(), getChunkCount());
+        List<CompletableFuture<List<T>>> futures = new ArrayList<>(chunks);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            List<Supplier<List<T>>> range = blocks.subList(
+                blocks.size() * chunk / chunks,
+                blocks.size() * (chunk + 1) / chunks
+            );
+            futures.add(CompletableFuture.supplyAsync(
+                () -> generateBlocks(range),
+                executor
+            ));
+        }
+
+        List<T> results = new ArrayList<>(count);
+        for (CompletableFuture<List<T>> future : futures) {
+            results.addAll(join(future));
+        }
+
+        return unmodifiableList(results);
+    }
+
+    private List<Supplier<List<T>>> createBlocks(int count) {
+        // Each block draws its random values from a split of the source taken
+        // here in block order, so a seeded source yields the same list
+        // regardless of the threads that generate the blocks.
+        RandomSource source = context.resolve(RandomSource.class);
+        List<Supplier<List<T>>> blocks = new ArrayList<>();
+        for (int start = 0; start < count; start += BLOCK_SIZE) {
+            int size = Math.min(BLOCK_SIZE, count - start);
+            Supplier<List<T>> block = () -> stream().limit(size).collect(toList());
+            blocks.add(source instanceof SplittableRandomSource
+                ? ((SplittableRandomSource) source).bind(block)
+                : block);
+        }
+
+        return blocks;
+    }
+
+    private static <T> List<T> generateBlocks(List<Supplier<List<T>>> blocks) {
+        List<T> results = new ArrayList<>();
+        for (Supplier<List<T>> block : blocks) {
+            results.addAll(block.get());
+        }
+
+        return results;
+    }
+
+    private static int getChunkCount() {
+        return Runtime.getRuntime().availableProcessors() * 4;
+    }
+
+    private static <T> List<T> join(CompletableFuture<List<T>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw exception;
+        }
+    }
+
     /**
      * Returns a sequential {@link Stream} of instances of the type managed by
      * this factory.
@@ -475,10 +634,41 @@ public final class Factory<T> implements Supplier<T> {
      * @return a sequential {@link Stream} of instances of type {@code T}
      */
     public Stream<T> stream(Customizer... customizers) {
-        Factory<T> factory = customizers.length == 0
+        return Stream.generate(branch(customizers));
+    }
+
+    /**
+     * Returns a parallel {@link Stream} of instances of the type managed by
+     * this factory.
+     * <p>
+     * This method behaves like {@link #stream(Customizer...)} except that the
+     * returned stream is parallel, so operations such as
+     * {@link Stream#limit} followed by a terminal operation generate
+     * instances on multiple threads of the
+     * {@link ForkJoinPool#commonPool() common pool}. The stream is unordered
+     * because every instance is generated independently. Use
+     * {@link #getParallel(int, Customizer...)} to get a list with a stable
+     * order.
+     * </p>
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * Factory&lt;MyClass&gt; factory = Factory.create();
+     * long count = factory.parallelStream().limit(10_000).filter(MyClass::isValid).count();
+     * </pre>
+     *
+     * @param customizers customizers to apply to each generated instance
+     *                    (optional; does not affect this Factory)
+     * @return a parallel {@link Stream} of instances of type {@code T}
+     */
+    public Stream<T> parallelStream(Customizer... customizers) {
+        return stream(customizers).parallel();
+    }
+
+    private Factory<T> branch(Customizer[] customizers) {
+        return customizers.length == 0
             ? this
             : new Factory<>(context.branch(customizers), type);
-        return Stream.generate(factory);
     }
 
     /**
@@ -30,4 +30,9 @@ final class FactoryGenerator implements ObjectGenerator {
             return ObjectContainer.EMPTY;
         }
     }
+
+    @Override
+    public boolean supports(Class<?> rawType) {
+        return rawType.equals(Factory.class);
+    }
 }
@@ -1,7 +1,6 @@
 package autoparams.generator;
 
 import java.lang.reflect.Parameter;
-import java.util.concurrent.ThreadLocalRandom;
 
 import autoparams.ObjectQuery;
 import autoparams.ParameterQuery;
@@ -22,7 +21,8 @@ final class FloatGenerator extends PrimitiveTypeGenerator<Float> {
     ) {
         float origin = getOrigin(query);
         float bound = getBound(query);
-        return (float) ThreadLocalRandom.current().nextDouble(origin, bound);
+        RandomSource random = context.resolve(RandomSource.class);
+        return (float) random.nextDouble(origin, bound);
     }
 
     private static float getOrigin(ObjectQuery query) {
@@ -28,6 +28,11 @@ final class GenericStreamGenerator implements ObjectGenerator {
         return ObjectContainer.EMPTY;
     }
 
+    @Override
+    public boolean supports(Class<?> rawType) {
+        return rawType.equals(Stream.class);
+    }
+
     private static Stream<Object> generateStream(
         ParameterizedType streamType,
         int size,
@@ -15,6 +15,6 @@ final class IntStreamGenerator extends ObjectGeneratorBase<IntStream> {
         ResolutionContext context
     ) {
         int size = getSize(query);
-        return IntStream.generate(() -> context.resolve(int.class)).limit(size);
+        return IntStream.generate(context::resolveInt).limit(size);
     }
 }
@@ -0,0 +1,75 @@
+package autoparams.generator;
+
+import java.lang.reflect.Type;
+
+import autoparams.ObjectQuery;
+import autoparams.ResolutionContext;
+
+/**
+ * An {@link ObjectGenerator} that generates {@code int} values without
+ * boxing them.
+ * <p>
+ * A generator of this type generates a value for every query whose type is
+ * {@code int} or {@link Integer}. When it is the generator that would answer
+ * {@code int} queries of a {@link ResolutionContext},
+ * {@link ResolutionContext#resolveInt(ObjectQuery)} calls
+ * {@link #generateInt(ObjectQuery, ResolutionContext)} directly instead of passing
+ * a boxed value through the object generators of the context. Primitive
+ * arrays and {@link java.util.stream.IntStream} objects are filled this way.
+ * </p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>
+ * ResolutionContext context = new ResolutionContext();
+ * context.applyCustomizer((IntValueGenerator) (query, ctx) -&gt; 42);
+ * int value = context.resolveInt();
+ * </pre>
+ *
+ * @see ResolutionContext#resolveInt(ObjectQuery)
+ */
+@FunctionalInterface
+public interface IntValueGenerator extends ObjectGenerator {
+
+    /**
+     * Generates a {@code int} value for the given {@link ObjectQuery} with
+     * the specified {@link ResolutionContext}.
+     *
+     * @param query   the object query whose type is {@code int} or
+     *                {@link Integer}
+     * @param context the resolution context for value generation
+     * @return the generated value
+     */
+    int generateInt(ObjectQuery query, ResolutionContext context);
+
+    /**
+     * Generates a boxed value with {@link #generateInt(ObjectQuery, ResolutionContext)}
+     * if the type of the query is {@code int} or {@link Integer}.
+     *
+     * @param query   the object query describing the requested object
+     * @param context the resolution context for object generation
+     * @return an {@link ObjectContainer} with the generated value, or
+     *         {@link ObjectContainer#EMPTY} for other types
+     */
+    @Override
+    default ObjectContainer generate(
+        ObjectQuery query,
+        ResolutionContext context
+    ) {
+        Type type = query.getType();
+        return type.equals(int.class) || type.equals(Integer.class)
+            ? new ObjectContainer(generateInt(query, context))
+            : ObjectContainer.EMPTY;
+    }
+
+    /**
+     * Determines whether the raw type is {@code int} or {@link Integer}.
+     *
+     * @param rawType the raw type of a query
+     * @return {@code true} if {@code rawType} is {@code int} or
+     *         {@link Integer}; otherwise, {@code false}
+     */
+    @Override
+    default boolean supports(Class<?> rawType) {
+        return rawType.equals(int.class) || rawType.equals(Integer.class);
+    }
+}
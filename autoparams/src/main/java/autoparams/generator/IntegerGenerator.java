@@ -1,27 +1,18 @@
 package autoparams.generator;
 
-import java.util.concurrent.ThreadLocalRandom;
-
 import autoparams.ObjectQuery;
 import autoparams.ResolutionContext;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 
-final class IntegerGenerator extends PrimitiveTypeGenerator<Integer> {
-
-    IntegerGenerator() {
-        super(int.class, Integer.class);
-    }
+final class IntegerGenerator implements IntValueGenerator {
 
     @Override
-    protected Integer generateValue(
-        ObjectQuery query,
-        ResolutionContext context
-    ) {
+    public int generateInt(ObjectQuery query, ResolutionContext context) {
         int min = getMin(query);
         int max = getMax(query);
 
-        ThreadLocalRandom random = ThreadLocalRandom.current();
+        RandomSource random = context.resolve(RandomSource.class);
 
         if (min == Integer.MIN_VALUE && max == Integer.MAX_VALUE) {
             return random.nextInt();
@@ -1,7 +1,5 @@
 package autoparams.generator;
 
-import java.util.concurrent.ThreadLocalRandom;
-
 import autoparams.ObjectQuery;
 import autoparams.ResolutionContext;
 import jakarta.validation.constraints.Max;
@@ -10,18 +8,14 @@ import jakarta.validation.constraints.Min;
 import static autoparams.generator.MaxAnnotation.findMaxAnnotation;
 import static autoparams.generator.MinAnnotation.findMinAnnotation;
 
-final class LongGenerator extends PrimitiveTypeGenerator<Long> {
-
-    LongGenerator() {
-        super(long.class, Long.class);
-    }
+final class LongGenerator implements LongValueGenerator {
 
     @Override
-    protected Long generateValue(ObjectQuery query, ResolutionContext context) {
+    public long generateLong(ObjectQuery query, ResolutionContext context) {
         long min = getMin(query);
         long max = getMax(query);
 
-        ThreadLocalRandom random = ThreadLocalRandom.current();
+        RandomSource random = context.resolve(RandomSource.class);
 
         if (min == Long.MIN_VALUE && max == Long.MAX_VALUE) {
             return random.nextLong();
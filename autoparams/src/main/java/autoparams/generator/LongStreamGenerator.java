@@ -15,7 +15,7 @@ final class LongStreamGenerator extends ObjectGeneratorBase<LongStream> {
         ResolutionContext context
     ) {
         return LongStream
-            .generate(() -> context.resolve(long.class))
+            .generate(context::resolveLong)
             .limit(getSize(query));
     }
 }
@@ -0,0 +1,75 @@
+package autoparams.generator;
+
+import java.lang.reflect.Type;
+
+import autoparams.ObjectQuery;
+import autoparams.ResolutionContext;
+
+/**
+ * An {@link ObjectGenerator} that generates {@code long} values without
+ * boxing them.
+ * <p>
+ * A generator of this type generates a value for every query whose type is
+ * {@code long} or {@link Long}. When it is the generator that would answer
+ * {@code long} queries of a {@link ResolutionContext},
+ * {@link ResolutionContext#resolveLong(ObjectQuery)} calls
+ * {@link #generateLong(ObjectQuery, ResolutionContext)} directly instead of passing
+ * a boxed value through the object generators of the context. Primitive
+ * arrays and {@link java.util.stream.LongStream} objects are filled this way.
+ * </p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>
+ * ResolutionContext context = new ResolutionContext();
+ * context.applyCustomizer((LongValueGenerator) (query, ctx) -&gt; 42L);
+ * long value = context.resolveLong();
+ * </pre>
+ *
+ * @see ResolutionContext#resolveLong(ObjectQuery)
+ */
+@FunctionalInterface
+public interface LongValueGenerator extends ObjectGenerator {
+
+    /**
+     * Generates a {@code long} value for the given {@link ObjectQuery} with
+     * the specified {@link ResolutionContext}.
+     *
+     * @param query   the object query whose type is {@code long} or
+     *                {@link Long}
+     * @param context the resolution context for value generation
+     * @return the generated value
+     */
+    long generateLong(ObjectQuery query, ResolutionContext context);
+
+    /**
+     * Generates a boxed value with {@link #generateLong(ObjectQuery, ResolutionContext)}
+     * if the type of the query is {@code long} or {@link Long}.
+     *
+     * @param query   the object query describing the requested object
+     * @param context the resolution context for object generation
+     * @return an {@link ObjectContainer} with the generated value, or
+     *         {@link ObjectContainer#EMPTY} for other types
+     */
+    @Override
+    default ObjectContainer generate(
+        ObjectQuery query,
+        ResolutionContext context
+    ) {
+        Type type = query.getType();
+        return type.equals(long.class) || type.equals(Long.class)
+            ? new ObjectContainer(generateLong(query, context))
+            : ObjectContainer.EMPTY;
+    }
+
+    /**
+     * Determines whether the raw type is {@code long} or {@link Long}.
+     *
+     * @param rawType the raw type of a query
+     * @return {@code true} if {@code rawType} is {@code long} or
+     *         {@link Long}; otherwise, {@code false}
+     */
+    @Override
+    default boolean supports(Class<?> rawType) {
+        return rawType.equals(long.class) || rawType.equals(Long.class);
+    }
+}
@@ -31,6 +31,11 @@ final class MapGenerator implements ObjectGenerator {
         return ObjectContainer.EMPTY;
     }
 
+    @Override
+    public boolean supports(Class<?> rawType) {
+        return isMap(rawType);
+    }
+
     private boolean isMap(Class<?> type) {
         return type.equals(HashMap.class)
             || type.equals(Map.class)
@@ -72,6 +72,32 @@ public interface ObjectGenerator extends Customizer {
         return generate(new DefaultObjectQuery(type), context);
     }
 
+    /**
+     * Determines whether this generator can generate objects for queries of
+     * the specified raw type.
+     * <p>
+     * Composite generators such as {@link CompositeObjectGenerator} use this
+     * method to build a dispatch index, so that a query is routed only to the
+     * generators that can handle its type. Returning {@code false} means that
+     * {@link #generate(ObjectQuery, ResolutionContext)} returns
+     * {@link ObjectContainer#EMPTY} for every query whose type is
+     * {@code rawType} or a parameterized type of {@code rawType}. The result
+     * must not change over the lifetime of the generator.
+     * </p>
+     * <p>
+     * By default, this method returns {@code true}, which means the generator
+     * is consulted for queries of any type.
+     * </p>
+     *
+     * @param rawType the raw type of a query
+     * @return {@code false} if this generator never generates objects for
+     *         {@code rawType}; otherwise, {@code true}
+     * @see CompositeObjectGenerator
+     */
+    default boolean supports(Class<?> rawType) {
+        return true;
+    }
+
     /**
      * Composes this generator with another {@link ObjectGenerator}.
      * <p>
@@ -2,6 +2,7 @@ package autoparams.generator;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 
 import autoparams.ObjectQuery;
@@ -100,6 +101,30 @@ public abstract class ObjectGeneratorBase<T> implements ObjectGenerator {
         }
     }
 
+    /**
+     * Determines whether this generator can generate objects for queries of
+     * the specified raw type.
+     * <p>
+     * The result is derived from the type parameter {@code T} with the same
+     * rules that {@link #generate(ObjectQuery, ResolutionContext)} uses to
+     * match the requested type.
+     * </p>
+     *
+     * @param rawType the raw type of a query
+     * @return {@code true} if this generator may generate objects for
+     *         {@code rawType}; otherwise, {@code false}
+     */
+    @Override
+    public final boolean supports(Class<?> rawType) {
+        if (type instanceof Class<?>) {
+            return matches(rawType);
+        } else if (type instanceof ParameterizedType) {
+            return rawType.equals(((ParameterizedType) type).getRawType());
+        } else {
+            return true;
+        }
+    }
+
     private boolean matches(Type type) {
         return type instanceof Class
             ? matches((Class<?>) type)
@@ -30,6 +30,11 @@ final class OptionalGenerator implements ObjectGenerator {
             : ObjectContainer.EMPTY;
     }
 
+    @Override
+    public boolean supports(Class<?> rawType) {
+        return rawType.equals(Optional.class);
+    }
+
     private Optional<Object> generateOptional(
         ParameterizedType optionalType,
         ResolutionContext context
@@ -1,13 +1,19 @@
 package autoparams.generator;
 
-import java.security.SecureRandom;
-import java.util.Random;
-
 import autoparams.ParameterQuery;
 import autoparams.ResolutionContext;
 
 final class PasswordStringGenerator implements ArgumentGenerator {
 
+    private static final String[] CHARACTER_SETS = {
+        "ABCDEFGHIJKLMNOPQRSTUVWXYZ",
+        "abcdefghijklmnopqrstuvwxyz",
+        "0123456789",
+        "!@#$%^&*[]{}()<>~`-=_+;:'\",./?\\| "
+    };
+
+    private static final int ROUNDS = 5;
+
     @Override
     public ObjectContainer generate(
         ParameterQuery query,
@@ -16,7 +22,7 @@ final class PasswordStringGenerator implements ArgumentGenerator {
         return query
             .getParameterName()
             .filter(PasswordStringGenerator::parameterNameMatch)
-            .map(name -> generatePassword())
+            .map(name -> generatePassword(context))
             .map(ObjectContainer::new)
             .orElse(ObjectContainer.EMPTY);
     }
@@ -25,28 +31,24 @@ final class PasswordStringGenerator implements ArgumentGenerator {
         return parameterName.toLowerCase().endsWith("password");
     }
 
-    private String generatePassword() {
-        SecureRandom random = new SecureRandom();
+    private String generatePassword(ResolutionContext context) {
+        RandomSource random = context.resolve(RandomSource.class);
 
-        CharSequence[] characterSets = {
-            "ABCDEFGHIJKLMNOPQRSTUVWXYZ",
-            "abcdefghijklmnopqrstuvwxyz",
-            "0123456789",
-            "!@#$%^&*[]{}()<>~`-=_+;:'\",./?\\| "
-        };
+        String[] characterSets = CHARACTER_SETS.clone();
         shuffle(random, characterSets);
 
-        StringBuilder password = new StringBuilder();
-        for (int i = 0; i < 5; i++) {
-            for (CharSequence characterSet : characterSets) {
-                password.append(sample(random, characterSet));
+        char[] password = new char[ROUNDS * characterSets.length];
+        int index = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            for (String characterSet : characterSets) {
+                password[index++] = sample(random, characterSet);
             }
         }
 
-        return password.toString();
+        return new String(password);
     }
 
-    private <T> void shuffle(Random random, T[] array) {
+    private <T> void shuffle(RandomSource random, T[] array) {
         for (int i = 0; i < array.length; i++) {
             int j = random.nextInt(array.length);
             T temp = array[i];
@@ -55,7 +57,7 @@ final class PasswordStringGenerator implements ArgumentGenerator {
         }
     }
 
-    private static char sample(Random random, CharSequence characterSet) {
+    private static char sample(RandomSource random, String characterSet) {
         return characterSet.charAt(random.nextInt(characterSet.length()));
     }
 }
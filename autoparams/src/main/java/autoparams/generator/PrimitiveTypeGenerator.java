@@ -26,6 +26,11 @@ abstract class PrimitiveTypeGenerator<T> implements ObjectGenerator {
             : ObjectContainer.EMPTY;
     }
 
+    @Override
+    public final boolean supports(Class<?> rawType) {
+        return rawType.equals(primitiveType) || rawType.equals(boxedType);
+    }
+
     protected abstract T generateValue(
         ObjectQuery query,
         ResolutionContext context
@@ -0,0 +1,49 @@
+package autoparams.generator;
+
+final class RandomIdentifiers {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final int LENGTH = 36;
+
+    private RandomIdentifiers() {
+    }
+
+    public static long withVersion4(long mostSigBits) {
+        return (mostSigBits & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+    }
+
+    public static long withVariant2(long leastSigBits) {
+        return (leastSigBits & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    }
+
+    public static String next(RandomSource random) {
+        return next(random, "");
+    }
+
+    public static String next(RandomSource random, String prefix) {
+        long mostSigBits = withVersion4(random.nextLong());
+        long leastSigBits = withVariant2(random.nextLong());
+
+        int offset = prefix.length();
+        char[] buffer = new char[offset + LENGTH];
+        prefix.getChars(0, offset, buffer, 0);
+        encode(mostSigBits >>> 32, buffer, offset, 8);
+        buffer[offset + 8] = '-';
+        encode(mostSigBits >>> 16, buffer, offset + 9, 4);
+        buffer[offset + 13] = '-';
+        encode(mostSigBits, buffer, offset + 14, 4);
+        buffer[offset + 18] = '-';
+        encode(leastSigBits >>> 48, buffer, offset + 19, 4);
+        buffer[offset + 23] = '-';
+        encode(leastSigBits, buffer, offset + 24, 12);
+        return new String(buffer);
+    }
+
+    private static void encode(long bits, char[] buffer, int offset, int digits) {
+        for (int index = offset + digits - 1; index >= offset; index--) {
+            buffer[index] = HEX_DIGITS[(int) bits & 0xF];
+            bits >>>= 4;
+        }
+    }
+}
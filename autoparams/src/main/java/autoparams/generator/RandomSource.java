@@ -0,0 +1,184 @@
+package autoparams.generator;
+
+import java.util.UUID;
+
+import autoparams.LogVisibility;
+import autoparams.ResolutionContext;
+
+/**
+ * Provides the pseudorandom values that AutoParams uses to generate objects.
+ * <p>
+ * Generators resolve a {@link RandomSource} from the
+ * {@link ResolutionContext} instead of using a global random number generator.
+ * A source created with {@link #create(long)} produces the same sequence of
+ * values for the same seed, which makes generated objects reproducible. Use
+ * {@link RandomSourceProvider} to register a seeded source.
+ * </p>
+ * <p>
+ * Implementations returned by {@link #create()} and {@link #create(long)} are
+ * backed by {@link java.util.SplittableRandom} and can be shared by multiple
+ * threads without locking. Each thread other than the one that created the
+ * source draws values from its own split of the source. These sources are not
+ * cryptographically strong. Use {@link #createSecure()}, or annotate a test
+ * with {@link UseSecureRandom @UseSecureRandom}, when generated values such as
+ * passwords must be unpredictable.
+ * </p>
+ *
+ * @see RandomSourceProvider
+ */
+@LogVisibility(verboseOnly = true)
+public interface RandomSource {
+
+    /**
+     * Creates a new {@link RandomSource} with an arbitrary seed.
+     *
+     * @return a new {@link RandomSource}.
+     */
+    static RandomSource create() {
+        return new SplittableRandomSource();
+    }
+
+    /**
+     * Creates a new {@link RandomSource} with the specified seed.
+     * <p>
+     * Two sources created with the same seed produce the same sequence of
+     * values when they are used by the threads that created them.
+     * </p>
+     *
+     * @param seed the seed of the source.
+     * @return a new {@link RandomSource}.
+     */
+    static RandomSource create(long seed) {
+        return new SplittableRandomSource(seed);
+    }
+
+    /**
+     * Creates a new {@link RandomSource} backed by a cryptographically strong
+     * random number generator.
+     * <p>
+     * The source cannot be seeded, so the values it produces are not
+     * reproducible. It is also considerably slower than the sources returned
+     * by {@link #create()} and {@link #create(long)}.
+     * </p>
+     *
+     * @return a new {@link RandomSource}.
+     * @see java.security.SecureRandom
+     */
+    static RandomSource createSecure() {
+        return new SecureRandomSource();
+    }
+
+    /**
+     * Returns a pseudorandom {@code int} value.
+     *
+     * @return a pseudorandom {@code int} value.
+     */
+    int nextInt();
+
+    /**
+     * Returns a pseudorandom {@code int} value between zero (inclusive) and
+     * the specified bound (exclusive).
+     *
+     * @param bound the upper bound (exclusive). Must be positive.
+     * @return a pseudorandom {@code int} value.
+     * @throws IllegalArgumentException if {@code bound} is not positive.
+     */
+    int nextInt(int bound);
+
+    /**
+     * Returns a pseudorandom {@code int} value between the specified origin
+     * (inclusive) and the specified bound (exclusive).
+     *
+     * @param origin the least value returned.
+     * @param bound  the upper bound (exclusive).
+     * @return a pseudorandom {@code int} value.
+     * @throws IllegalArgumentException if {@code origin} is greater than or
+     *                                  equal to {@code bound}.
+     */
+    int nextInt(int origin, int bound);
+
+    /**
+     * Returns a pseudorandom {@code long} value.
+     *
+     * @return a pseudorandom {@code long} value.
+     */
+    long nextLong();
+
+    /**
+     * Returns a pseudorandom {@code long} value between the specified origin
+     * (inclusive) and the specified bound (exclusive).
+     *
+     * @param origin the least value returned.
+     * @param bound  the upper bound (exclusive).
+     * @return a pseudorandom {@code long} value.
+     * @throws IllegalArgumentException if {@code origin} is greater than or
+     *                                  equal to {@code bound}.
+     */
+    long nextLong(long origin, long bound);
+
+    /**
+     * Returns a pseudorandom {@code double} value between the specified origin
+     * (inclusive) and the specified bound (exclusive).
+     *
+     * @param origin the least value returned.
+     * @param bound  the upper bound (exclusive).
+     * @return a pseudorandom {@code double} value.
+     * @throws IllegalArgumentException if {@code origin} is greater than or
+     *                                  equal to {@code bound}.
+     */
+    double nextDouble(double origin, double bound);
+
+    /**
+     * Returns a pseudorandom {@code boolean} value.
+     *
+     * @return a pseudorandom {@code boolean} value.
+     */
+    default boolean nextBoolean() {
+        return nextInt() < 0;
+    }
+
+    /**
+     * Fills the specified byte array with pseudorandom bytes.
+     *
+     * @param bytes the byte array to fill.
+     */
+    default void nextBytes(byte[] bytes) {
+        int index = 0;
+        while (index < bytes.length) {
+            long value = nextLong();
+            int count = Math.min(bytes.length - index, Long.BYTES);
+            for (int i = 0; i < count; i++) {
+                bytes[index++] = (byte) value;
+                value >>>= Byte.SIZE;
+            }
+        }
+    }
+
+    /**
+     * Returns a pseudorandom version 4 {@link UUID}.
+     * <p>
+     * Unlike {@link UUID#randomUUID()}, this method draws the bits of the
+     * {@link UUID} from this source rather than from a cryptographically strong
+     * generator.
+     * </p>
+     *
+     * @return a pseudorandom version 4 {@link UUID}.
+     */
+    default UUID nextUUID() {
+        long mostSigBits = RandomIdentifiers.withVersion4(nextLong());
+        long leastSigBits = RandomIdentifiers.withVariant2(nextLong());
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Creates a new {@link RandomSource} whose sequence of values is
+     * statistically independent of this source.
+     * <p>
+     * Splitting a seeded source is deterministic: the split source is seeded
+     * from the values of this source.
+     * </p>
+     *
+     * @return a new {@link RandomSource}.
+     */
+    RandomSource split();
+}
@@ -0,0 +1,93 @@
+package autoparams.generator;
+
+import java.util.function.Supplier;
+
+import autoparams.ObjectQuery;
+import autoparams.ResolutionContext;
+
+/**
+ * Provides instances of {@link RandomSource}.
+ * <p>
+ * This generator is responsible for providing {@link RandomSource} to the
+ * AutoParams framework. Generators retrieve the source via the
+ * {@link ResolutionContext} whenever they need pseudorandom values, and the
+ * context reuses the source until its object generator is customized.
+ * </p>
+ * <p>
+ * By default, this provider supplies a source with an arbitrary seed, so each
+ * {@link ResolutionContext} generates different values. Users can make the
+ * generated values reproducible by creating an instance of this provider with
+ * a specific seed and registering it as a custom {@link ObjectGenerator}
+ * within the AutoParams framework.
+ * </p>
+ *
+ * @see RandomSource
+ * @see ObjectGeneratorBase
+ * @see ResolutionContext
+ */
+public final class RandomSourceProvider extends ObjectGeneratorBase<RandomSource> {
+
+    private final Supplier<? extends RandomSource> factory;
+
+    /**
+     * Constructs an instance of {@link RandomSourceProvider} that provides
+     * sources created with the specified seed.
+     *
+     * @param seed the seed of the {@link RandomSource} instances to be
+     *             provided by this generator.
+     * @see RandomSource#create(long)
+     */
+    public RandomSourceProvider(long seed) {
+        this(() -> RandomSource.create(seed));
+    }
+
+    /**
+     * Constructs an instance of {@link RandomSourceProvider} that provides
+     * sources created by the specified factory.
+     * <p>
+     * For example, {@code new RandomSourceProvider(RandomSource::createSecure)}
+     * makes AutoParams generate values using a cryptographically strong random
+     * number generator.
+     * </p>
+     *
+     * @param factory the factory that creates the {@link RandomSource}
+     *                instances to be provided by this generator.
+     * @throws IllegalArgumentException if {@code factory} is {@code null}.
+     */
+    public RandomSourceProvider(Supplier<? extends RandomSource> factory) {
+        if (factory == null) {
+            throw new IllegalArgumentException("The argument 'factory' is null.");
+        }
+
+        this.factory = factory;
+    }
+
+    RandomSourceProvider() {
+        this(RandomSource::create);
+    }
+
+    /**
+     * Provides an instance of {@link RandomSource}.
+     * <p>
+     * This method returns a new {@link RandomSource} created with the seed or
+     * the factory that this provider was configured with, or with an arbitrary
+     * seed if neither was configured.
+     * </p>
+     *
+     * @param query   the {@link ObjectQuery} for which the source is being
+     *                generated. This parameter is not directly used in this
+     *                implementation.
+     * @param context the {@link ResolutionContext} providing services and
+     *                information for value generation. This parameter is not
+     *                directly used in this implementation.
+     * @return a new {@link RandomSource} instance.
+     * @see RandomSource
+     */
+    @Override
+    protected RandomSource generateObject(
+        ObjectQuery query,
+        ResolutionContext context
+    ) {
+        return factory.get();
+    }
+}
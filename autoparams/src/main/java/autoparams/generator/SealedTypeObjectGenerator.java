@@ -5,14 +5,30 @@ import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 import autoparams.ObjectQuery;
 import autoparams.ResolutionContext;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
 final class SealedTypeObjectGenerator implements ObjectGenerator {
 
-    private final Random random = new Random();
+    private static final Method IS_SEALED = findMethod("isSealed");
+
+    private static final Method GET_PERMITTED_SUBCLASSES =
+        findMethod("getPermittedSubclasses");
+
+    private static final ClassValue<SealedHierarchy> HIERARCHIES =
+        new ClassValue<SealedHierarchy>() {
+
+            @Override
+            protected SealedHierarchy computeValue(Class<?> type) {
+                return isSealed(type)
+                    ? new SealedHierarchy(findConcreteSubclasses(type))
+                    : SealedHierarchy.NOT_SEALED;
+            }
+        };
 
     @Override
     public ObjectContainer generate(
@@ -26,27 +42,29 @@ final class SealedTypeObjectGenerator implements ObjectGenerator {
     }
 
     private ObjectContainer generate(Class<?> type, ResolutionContext context) {
-        if (isSealed(type) == false) {
-            return ObjectContainer.EMPTY;
-        }
-
-        List<Class<?>> concreteSubclasses = findConcreteSubclasses(type);
+        List<Class<?>> concreteSubclasses =
+            HIERARCHIES.get(type).concreteSubclasses;
         if (concreteSubclasses.isEmpty()) {
             return ObjectContainer.EMPTY;
         }
 
-        Class<?> subclass = selectOne(concreteSubclasses);
+        Class<?> subclass = selectOne(concreteSubclasses, context);
         Object value = context.resolve(subclass);
         return new ObjectContainer(value);
     }
 
-    private List<Class<?>> findConcreteSubclasses(Class<?> type) {
+    @Override
+    public boolean supports(Class<?> rawType) {
+        return HIERARCHIES.get(rawType).sealed;
+    }
+
+    private static List<Class<?>> findConcreteSubclasses(Class<?> type) {
         List<Class<?>> result = new ArrayList<>();
         collectConcreteSubclasses(type, result);
-        return result;
+        return unmodifiableList(result);
     }
 
-    private void collectConcreteSubclasses(
+    private static void collectConcreteSubclasses(
         Class<?> type,
         List<Class<?>> result
     ) {
@@ -63,25 +81,66 @@ final class SealedTypeObjectGenerator implements ObjectGenerator {
         return Modifier.isAbstract(type.getModifiers());
     }
 
-    private boolean isSealed(Class<?> type) {
+    private static Method findMethod(String name) {
         try {
-            Method method = Class.class.getMethod("isSealed");
-            return (boolean) method.invoke(type);
+            return Class.class.getMethod(name);
+        } catch (NoSuchMethodException exception) {
+            return null;
+        }
+    }
+
+    private static boolean isSealed(Class<?> type) {
+        if (IS_SEALED == null) {
+            return false;
+        }
+
+        try {
+            return (boolean) IS_SEALED.invoke(type);
         } catch (Exception exception) {
             return false;
         }
     }
 
-    private Class<?>[] getPermittedSubclasses(Class<?> type) {
+    private static Class<?>[] getPermittedSubclasses(Class<?> type) {
+        if (GET_PERMITTED_SUBCLASSES == null) {
+            return new Class<?>[0];
+        }
+
         try {
-            Method method = Class.class.getMethod("getPermittedSubclasses");
-            return (Class<?>[]) method.invoke(type);
+            Class<?>[] subclasses =
+                (Class<?>[]) GET_PERMITTED_SUBCLASSES.invoke(type);
+            return subclasses == null ? new Class<?>[0] : subclasses;
         } catch (Exception exception) {
             return new Class<?>[0];
         }
     }
 
-    private Class<?> selectOne(List<Class<?>> classes) {
+    private Class<?> selectOne(
+        List<Class<?>> classes,
+        ResolutionContext context
+    ) {
+        RandomSource random = context.resolve(RandomSource.class);
         return classes.get(random.nextInt(classes.size()));
     }
+
+    private static final class SealedHierarchy {
+
+        public static final SealedHierarchy NOT_SEALED =
+            new SealedHierarchy(false, emptyList());
+
+        public final boolean sealed;
+        public final List<Class<?>> concreteSubclasses;
+
+        public SealedHierarchy(List<Class<?>> concreteSubclasses) {
+            this(true, concreteSubclasses);
+        }
+
+        private SealedHierarchy(
+            boolean sealed,
+            List<Class<?>> concreteSubclasses
+        ) {
+            this.sealed = sealed;
+            this.concreteSubclasses = concreteSubclasses;
+        }
+    }
 }
@@ -0,0 +1,78 @@
+package autoparams.generator;
+
+import java.security.SecureRandom;
+
+final class SecureRandomSource implements RandomSource {
+
+    private final SecureRandom random = new SecureRandom();
+
+    @Override
+    public int nextInt() {
+        return random.nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    @Override
+    public int nextInt(int origin, int bound) {
+        return (int) nextLong(origin, bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Override
+    public long nextLong(long origin, long bound) {
+        if (origin >= bound) {
+            throw new IllegalArgumentException(
+                "The argument 'bound' must be greater than 'origin'."
+            );
+        }
+
+        long range = bound - origin;
+        if (range > 0) {
+            long value = random.nextLong() >>> 1;
+            long result = value % range;
+            while (value + (range - 1) - result < 0) {
+                value = random.nextLong() >>> 1;
+                result = value % range;
+            }
+
+            return origin + result;
+        }
+
+        long value = random.nextLong();
+        while (value < origin || value >= bound) {
+            value = random.nextLong();
+        }
+
+        return value;
+    }
+
+    @Override
+    public double nextDouble(double origin, double bound) {
+        if ((origin < bound) == false) {
+            throw new IllegalArgumentException(
+                "The argument 'bound' must be greater than 'origin'."
+            );
+        }
+
+        double value = origin + random.nextDouble() * (bound - origin);
+        return value < bound ? value : Math.nextDown(bound);
+    }
+
+    @Override
+    public void nextBytes(byte[] bytes) {
+        random.nextBytes(bytes);
+    }
+
+    @Override
+    public RandomSource split() {
+        return new SecureRandomSource();
+    }
+}
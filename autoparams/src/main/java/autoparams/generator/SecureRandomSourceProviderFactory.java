@@ -0,0 +1,12 @@
+package autoparams.generator;
+
+import autoparams.customization.Customizer;
+import autoparams.customization.CustomizerFactory;
+
+final class SecureRandomSourceProviderFactory implements CustomizerFactory {
+
+    @Override
+    public Customizer createCustomizer() {
+        return new RandomSourceProvider(RandomSource::createSecure);
+    }
+}
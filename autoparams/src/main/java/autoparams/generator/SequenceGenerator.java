@@ -33,6 +33,11 @@ final class SequenceGenerator implements ObjectGenerator {
         return ObjectContainer.EMPTY;
     }
 
+    @Override
+    public boolean supports(Class<?> rawType) {
+        return isCollection(rawType);
+    }
+
     private static boolean isCollection(Class<?> type) {
         return type.equals(ArrayList.class)
             || type.equals(List.class)
@@ -31,6 +31,11 @@ final class SetGenerator implements ObjectGenerator {
         return ObjectContainer.EMPTY;
     }
 
+    @Override
+    public boolean supports(Class<?> rawType) {
+        return isSet(rawType);
+    }
+
     private boolean isSet(Class<?> type) {
         return type.equals(HashSet.class)
             || type.equals(Set.class)
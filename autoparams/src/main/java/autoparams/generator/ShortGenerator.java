@@ -1,7 +1,5 @@
 package autoparams.generator;
 
-import java.util.concurrent.ThreadLocalRandom;
-
 import autoparams.ObjectQuery;
 import autoparams.ResolutionContext;
 import jakarta.validation.constraints.Max;
@@ -25,7 +23,8 @@ final class ShortGenerator extends PrimitiveTypeGenerator<Short> {
     ) {
         short min = getMin(query);
         short max = getMax(query);
-        return (short) ThreadLocalRandom.current().nextInt(min, (max + 1));
+        RandomSource random = context.resolve(RandomSource.class);
+        return (short) random.nextInt(min, (max + 1));
     }
 
     private static short getMin(ObjectQuery query) {
@@ -0,0 +1,122 @@
+package autoparams.generator;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+final class SplittableRandomSource implements RandomSource {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final Thread owner;
+    private final SplittableRandom root;
+    private final AtomicLong splits;
+    private final ThreadLocal<SplittableRandom> workers;
+    private volatile boolean bound = false;
+
+    SplittableRandomSource() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    SplittableRandomSource(long seed) {
+        this.seed = seed;
+        this.owner = Thread.currentThread();
+        this.root = new SplittableRandom(seed);
+        this.splits = new AtomicLong();
+        this.workers = new ThreadLocal<>();
+    }
+
+    private SplittableRandom createWorker() {
+        long index = splits.incrementAndGet();
+        return new SplittableRandom(mix(seed + GOLDEN_GAMMA * index));
+    }
+
+    /**
+     * Splits this source on the calling thread and returns a task that draws
+     * the values of this source from the split while it runs.
+     * <p>
+     * Because the split is taken when the task is bound rather than when a
+     * thread first uses this source, binding tasks in a fixed order makes the
+     * values of each task reproducible regardless of the threads that run
+     * them.
+     * </p>
+     */
+    <T> Supplier<T> bind(Supplier<T> task) {
+        SplittableRandom worker = current().split();
+        return () -> {
+            bound = true;
+            SplittableRandom previous = workers.get();
+            workers.set(worker);
+            try {
+                return task.get();
+            } finally {
+                if (previous == null) {
+                    workers.remove();
+                } else {
+                    workers.set(previous);
+                }
+            }
+        };
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    private SplittableRandom current() {
+        if (Thread.currentThread() == owner && bound == false) {
+            return root;
+        }
+
+        SplittableRandom worker = workers.get();
+        if (worker == null) {
+            if (Thread.currentThread() == owner) {
+                return root;
+            }
+
+            worker = createWorker();
+            workers.set(worker);
+        }
+
+        return worker;
+    }
+
+    @Override
+    public int nextInt() {
+        return current().nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return current().nextInt(bound);
+    }
+
+    @Override
+    public int nextInt(int origin, int bound) {
+        return current().nextInt(origin, bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return current().nextLong();
+    }
+
+    @Override
+    public long nextLong(long origin, long bound) {
+        return current().nextLong(origin, bound);
+    }
+
+    @Override
+    public double nextDouble(double origin, double bound) {
+        return current().nextDouble(origin, bound);
+    }
+
+    @Override
+    public RandomSource split() {
+        return new SplittableRandomSource(current().nextLong());
+    }
+}
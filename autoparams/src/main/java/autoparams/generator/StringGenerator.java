@@ -1,7 +1,5 @@
 package autoparams.generator;
 
-import java.util.UUID;
-
 import autoparams.FieldQuery;
 import autoparams.ObjectQuery;
 import autoparams.ParameterQuery;
@@ -15,24 +13,26 @@ final class StringGenerator extends ObjectGeneratorBase<String> {
         ResolutionContext context
     ) {
         return query instanceof ParameterQuery
-            ? generate((ParameterQuery) query)
+            ? generate((ParameterQuery) query, context)
             : query instanceof FieldQuery
-            ? generate((FieldQuery) query)
-            : generate();
+            ? generate((FieldQuery) query, context)
+            : generate(context);
+    }
+
+    private String generate(ParameterQuery query, ResolutionContext context) {
+        return generate(context, query.getParameterName().orElse(""));
     }
 
-    private String generate(ParameterQuery query) {
-        return query
-            .getParameterName()
-            .map(name -> name + generate())
-            .orElseGet(this::generate);
+    private String generate(FieldQuery query, ResolutionContext context) {
+        return generate(context, query.getField().getName());
     }
 
-    private String generate(FieldQuery query) {
-        return query.getField().getName().concat(generate());
+    private String generate(ResolutionContext context) {
+        return generate(context, "");
     }
 
-    private String generate() {
-        return UUID.randomUUID().toString();
+    private String generate(ResolutionContext context, String prefix) {
+        RandomSource random = context.resolve(RandomSource.class);
+        return RandomIdentifiers.next(random, prefix);
     }
 }
@@ -1,7 +1,6 @@
 package autoparams.generator;
 
 import java.net.URI;
-import java.util.UUID;
 
 import autoparams.ObjectQuery;
 import autoparams.ResolutionContext;
@@ -14,11 +13,12 @@ final class URIGenerator extends ObjectGeneratorBase<URI> {
     @Override
     protected URI generateObject(ObjectQuery query, ResolutionContext context) {
         URIGenerationOptions options = getOptions(context);
+        RandomSource random = context.resolve(RandomSource.class);
 
-        String protocol = getProtocol(options);
-        String host = getHost(options);
-        Integer port = getPort(options);
-        String path = getPath();
+        String protocol = getProtocol(random, options);
+        String host = getHost(random, options);
+        Integer port = getPort(random, options);
+        String path = getPath(random);
 
         String source = port == null
             ? format("%s://%s%s", protocol, host, path)
@@ -31,19 +31,24 @@ final class URIGenerator extends ObjectGeneratorBase<URI> {
         return context.resolve(URIGenerationOptions.class);
     }
 
-    private String getProtocol(URIGenerationOptions options) {
-        return sample(options.schemes());
+    private String getProtocol(
+        RandomSource random,
+        URIGenerationOptions options
+    ) {
+        return sample(random, options.schemes());
     }
 
-    private String getHost(URIGenerationOptions options) {
-        return sample(options.hosts());
+    private String getHost(RandomSource random, URIGenerationOptions options) {
+        return sample(random, options.hosts());
     }
 
-    private Integer getPort(URIGenerationOptions options) {
-        return options.ports().isEmpty() ? null : sample(options.ports());
+    private Integer getPort(RandomSource random, URIGenerationOptions options) {
+        return options.ports().isEmpty()
+            ? null
+            : sample(random, options.ports());
     }
 
-    private String getPath() {
-        return "/" + UUID.randomUUID();
+    private String getPath(RandomSource random) {
+        return RandomIdentifiers.next(random, "/");
     }
 }
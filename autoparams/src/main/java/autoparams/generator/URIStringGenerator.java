@@ -25,6 +25,11 @@ final class URIStringGenerator implements ArgumentGenerator {
             : ObjectContainer.EMPTY;
     }
 
+    @Override
+    public boolean supports(Class<?> rawType) {
+        return rawType.equals(String.class);
+    }
+
     private static boolean typeMatches(ParameterQuery query) {
         return query.getType().equals(String.class);
     }
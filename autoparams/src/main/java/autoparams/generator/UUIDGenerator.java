@@ -9,6 +9,6 @@ final class UUIDGenerator extends ObjectGeneratorBase<UUID> {
 
     @Override
     protected UUID generateObject(ObjectQuery query, ResolutionContext context) {
-        return UUID.randomUUID();
+        return context.resolve(RandomSource.class).nextUUID();
     }
 }
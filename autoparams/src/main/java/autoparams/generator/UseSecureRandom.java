@@ -0,0 +1,32 @@
+package autoparams.generator;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import autoparams.customization.CustomizerSource;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+
+/**
+ * Makes AutoParams generate values using a cryptographically strong random
+ * number generator.
+ * <p>
+ * By default, AutoParams uses a fast pseudorandom {@link RandomSource} that is
+ * not suitable for security-sensitive values. When a test method, parameter,
+ * or another annotation is marked with
+ * {@link UseSecureRandom @UseSecureRandom}, AutoParams uses the source returned
+ * by {@link RandomSource#createSecure()} for the scope where the annotation is
+ * applied, including the generation of password strings.
+ * </p>
+ *
+ * @see RandomSource#createSecure()
+ * @see RandomSourceProvider
+ */
+@Target({ ANNOTATION_TYPE, METHOD, PARAMETER })
+@Retention(RetentionPolicy.RUNTIME)
+@CustomizerSource(SecureRandomSourceProviderFactory.class)
+public @interface UseSecureRandom {
+}
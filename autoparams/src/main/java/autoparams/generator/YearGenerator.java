@@ -1,7 +1,6 @@
 package autoparams.generator;
 
 import java.time.Year;
-import java.util.concurrent.ThreadLocalRandom;
 
 import autoparams.ObjectQuery;
 import autoparams.ResolutionContext;
@@ -14,7 +13,7 @@ final class YearGenerator extends ObjectGeneratorBase<Year> {
         ResolutionContext context
     ) {
         Year thisYear = Year.now();
-        ThreadLocalRandom random = ThreadLocalRandom.current();
+        RandomSource random = context.resolve(RandomSource.class);
         return Year.of(thisYear.getValue() + random.nextInt(-10, 11));
     }
 }
@@ -2,7 +2,6 @@ package autoparams.generator;
 
 import java.time.Year;
 import java.time.YearMonth;
-import java.util.concurrent.ThreadLocalRandom;
 
 import autoparams.ObjectQuery;
 import autoparams.ResolutionContext;
@@ -15,7 +14,7 @@ final class YearMonthGenerator extends ObjectGeneratorBase<YearMonth> {
         ResolutionContext context
     ) {
         Year year = context.resolve(Year.class);
-        ThreadLocalRandom random = ThreadLocalRandom.current();
+        RandomSource random = context.resolve(RandomSource.class);
         return YearMonth.of(year.getValue(), 1 + random.nextInt(12));
     }
 }
@@ -2,7 +2,6 @@ package autoparams.generator;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.util.concurrent.ThreadLocalRandom;
 
 import autoparams.ObjectQuery;
 import autoparams.ResolutionContext;
@@ -14,7 +13,7 @@ final class ZonedDateTimeGenerator extends ObjectGeneratorBase<ZonedDateTime> {
         ObjectQuery query,
         ResolutionContext context
     ) {
-        ThreadLocalRandom random = ThreadLocalRandom.current();
+        RandomSource random = context.resolve(RandomSource.class);
         return ZonedDateTime
             .now(context.resolve(ZoneId.class))
             .minusDays(random.nextInt(0, 365))
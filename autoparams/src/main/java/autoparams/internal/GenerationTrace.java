@@ -0,0 +1,106 @@
+package autoparams.internal;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import autoparams.generator.ObjectGenerator;
+
+/**
+ * Captures which {@link ObjectGenerator} generated the object of a resolution
+ * on the current thread.
+ * <p>
+ * A resolution that needs to know its generator calls {@link #start()} before
+ * generating the object and {@link #stop()} afterwards. Traces of nested
+ * resolutions are stacked, so each trace captures only the generator of its
+ * own resolution. Composite generators call
+ * {@link #onGenerated(ObjectGenerator)} with the generator that produced a
+ * result, and the innermost report wins. Until the first trace is started,
+ * reporting a generator only reads a volatile flag.
+ * </p>
+ * <p>
+ * A resolution that needs its generator only once, such as the generation of
+ * a stateful service, calls {@link #capture()} instead of {@link #start()}.
+ * A capture keeps reports recorded only while it is running, so reporting a
+ * generator returns to the fast path when the capture stops.
+ * </p>
+ * <p>
+ * This class is for internal implementation purposes and is not safe for
+ * external use because its interface and behavior can change at any time.
+ * </p>
+ */
+public final class GenerationTrace {
+
+    private static final ThreadLocal<GenerationTrace> CURRENT =
+        new ThreadLocal<>();
+
+    private static final AtomicInteger CAPTURES = new AtomicInteger();
+
+    private static volatile boolean active = false;
+
+    private final GenerationTrace previous;
+    private final boolean capturing;
+    private ObjectGenerator generator;
+
+    private GenerationTrace(GenerationTrace previous, boolean capturing) {
+        this.previous = previous;
+        this.capturing = capturing;
+    }
+
+    /**
+     * Starts a trace for a resolution on the current thread.
+     *
+     * @return the started trace.
+     */
+    public static GenerationTrace start() {
+        active = true;
+        return push(false);
+    }
+
+    /**
+     * Starts a trace for a resolution on the current thread that does not
+     * keep reports recorded after it stops.
+     *
+     * @return the started trace.
+     */
+    public static GenerationTrace capture() {
+        CAPTURES.incrementAndGet();
+        return push(true);
+    }
+
+    private static GenerationTrace push(boolean capturing) {
+        GenerationTrace trace = new GenerationTrace(CURRENT.get(), capturing);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    /**
+     * Reports that the specified generator produced a result on the current
+     * thread.
+     *
+     * @param generator the generator that produced a result.
+     */
+    public static void onGenerated(ObjectGenerator generator) {
+        if (active == false && CAPTURES.get() == 0) {
+            return;
+        }
+
+        GenerationTrace trace = CURRENT.get();
+        if (trace != null && trace.generator == null) {
+            trace.generator = generator;
+        }
+    }
+
+    /**
+     * Stops this trace and restores the trace of the enclosing resolution.
+     *
+     * @return the generator that produced the object of the resolution, or
+     *         {@code null} if no generator was reported.
+     */
+    public ObjectGenerator stop() {
+        CURRENT.set(previous);
+        if (capturing) {
+            CAPTURES.decrementAndGet();
+        }
+
+        return generator;
+    }
+}
@@ -0,0 +1,135 @@
+package autoparams.internal.reflect;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Checks arguments against parameter types with the conversions that
+ * reflection allows, so that a method handle is invoked only with arguments
+ * it can adapt.
+ * <p>
+ * The messages of the exceptions match those thrown by reflection.
+ * </p>
+ * <p>
+ * This class is for internal implementation purposes and is not safe for
+ * external use because its interface and behavior can change at any time.
+ * </p>
+ */
+public final class ArgumentTypes {
+
+    private static final Map<Class<?>, Class<?>> PRIMITIVES = new HashMap<>();
+
+    static {
+        PRIMITIVES.put(Boolean.class, boolean.class);
+        PRIMITIVES.put(Character.class, char.class);
+        PRIMITIVES.put(Byte.class, byte.class);
+        PRIMITIVES.put(Short.class, short.class);
+        PRIMITIVES.put(Integer.class, int.class);
+        PRIMITIVES.put(Long.class, long.class);
+        PRIMITIVES.put(Float.class, float.class);
+        PRIMITIVES.put(Double.class, double.class);
+    }
+
+    private ArgumentTypes() {
+    }
+
+    /**
+     * Checks the number and the types of the arguments for a method or a
+     * constructor.
+     *
+     * @param parameterTypes the parameter types of the method or constructor.
+     * @param arguments      the arguments to check, or {@code null} if there
+     *                       are no arguments.
+     * @throws IllegalArgumentException if the arguments do not match the
+     *                                  parameters.
+     */
+    public static void check(Class<?>[] parameterTypes, Object[] arguments) {
+        int count = arguments == null ? 0 : arguments.length;
+        if (count != parameterTypes.length) {
+            throw new IllegalArgumentException("wrong number of arguments");
+        }
+
+        for (int i = 0; i < count; i++) {
+            check(parameterTypes[i], arguments[i]);
+        }
+    }
+
+    /**
+     * Checks the type of an argument for a parameter.
+     *
+     * @param parameterType the type of the parameter.
+     * @param argument      the argument to check.
+     * @throws IllegalArgumentException if the parameter cannot accept the
+     *                                  argument.
+     */
+    public static void check(Class<?> parameterType, Object argument) {
+        if (accepts(parameterType, argument) == false) {
+            throw new IllegalArgumentException("argument type mismatch");
+        }
+    }
+
+    /**
+     * Checks the target object of an instance member.
+     *
+     * @param declaringClass the class that declares the member.
+     * @param target         the object to check.
+     * @throws NullPointerException     if {@code target} is {@code null}.
+     * @throws IllegalArgumentException if {@code target} is not an instance
+     *                                  of {@code declaringClass}.
+     */
+    public static void checkTarget(Class<?> declaringClass, Object target) {
+        if (target == null) {
+            throw new NullPointerException();
+        }
+
+        if (declaringClass.isInstance(target) == false) {
+            throw new IllegalArgumentException(
+                "object is not an instance of declaring class"
+            );
+        }
+    }
+
+    private static boolean accepts(Class<?> parameterType, Object argument) {
+        if (parameterType.isPrimitive() == false) {
+            return argument == null || parameterType.isInstance(argument);
+        }
+
+        if (argument == null) {
+            return false;
+        }
+
+        Class<?> source = PRIMITIVES.get(argument.getClass());
+        return source != null && widens(source, parameterType);
+    }
+
+    private static boolean widens(Class<?> source, Class<?> target) {
+        if (source == target) {
+            return true;
+        } else if (target == char.class) {
+            return false;
+        } else if (source == char.class) {
+            return rank(target) >= rank(int.class);
+        }
+
+        int sourceRank = rank(source);
+        return sourceRank > 0 && rank(target) > sourceRank;
+    }
+
+    private static int rank(Class<?> type) {
+        if (type == byte.class) {
+            return 1;
+        } else if (type == short.class) {
+            return 2;
+        } else if (type == int.class) {
+            return 3;
+        } else if (type == long.class) {
+            return 4;
+        } else if (type == float.class) {
+            return 5;
+        } else if (type == double.class) {
+            return 6;
+        } else {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package autoparams.internal.reflect;
+
+import java.beans.ConstructorProperties;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Provides cached reflection metadata of a class, such as its public
+ * constructors, public and declared methods, instance fields and JavaBeans
+ * properties.
+ * <p>
+ * Reflection methods like {@link Class#getConstructors()} and
+ * {@link Class#getDeclaredFields()} copy their results on every call. A
+ * {@link ClassModel} computes each kind of metadata once, when it is first
+ * requested, and returns the same unmodifiable list afterwards. Models are
+ * attached to their classes with {@link ClassValue}, so they do not prevent
+ * classes and their class loaders from being unloaded. Models can be shared
+ * across threads.
+ * </p>
+ * <p>
+ * This class is for internal implementation purposes and is not safe for
+ * external use because its interface and behavior can change at any time.
+ * </p>
+ */
+public final class ClassModel {
+
+    private static final ClassValue<ClassModel> CACHE =
+        new ClassValue<ClassModel>() {
+
+            @Override
+            protected ClassModel computeValue(Class<?> type) {
+                return new ClassModel(type);
+            }
+        };
+
+    private final Class<?> type;
+    private final Map<Constructor<?>, Optional<List<String>>> parameterNames;
+    private volatile List<Constructor<?>> constructors;
+    private volatile List<Method> methods;
+    private volatile List<Method> declaredMethods;
+    private volatile List<Field> instanceFields;
+    private volatile List<PropertyDescriptor> properties;
+
+    private ClassModel(Class<?> type) {
+        this.type = type;
+        this.parameterNames = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the {@link ClassModel} of the given class.
+     *
+     * @param type the class to describe.
+     * @return the {@link ClassModel} of the class.
+     */
+    public static ClassModel of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * Returns the class described by this model.
+     *
+     * @return the class described by this model.
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the public constructors of the class.
+     *
+     * @return an unmodifiable list of the public constructors.
+     * @see Class#getConstructors()
+     */
+    public List<Constructor<?>> getConstructors() {
+        List<Constructor<?>> value = constructors;
+        if (value == null) {
+            value = unmodifiableList(asList(type.getConstructors()));
+            constructors = value;
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the public methods of the class, including those inherited
+     * from superclasses and superinterfaces.
+     *
+     * @return an unmodifiable list of the public methods.
+     * @see Class#getMethods()
+     */
+    public List<Method> getMethods() {
+        List<Method> value = methods;
+        if (value == null) {
+            value = unmodifiableList(asList(type.getMethods()));
+            methods = value;
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the methods declared by the class, including non-public ones.
+     * Methods inherited from superclasses and superinterfaces are not
+     * included.
+     *
+     * @return an unmodifiable list of the declared methods.
+     * @see Class#getDeclaredMethods()
+     */
+    public List<Method> getDeclaredMethods() {
+        List<Method> value = declaredMethods;
+        if (value == null) {
+            value = unmodifiableList(asList(type.getDeclaredMethods()));
+            declaredMethods = value;
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the non-static fields declared by the class. Fields declared by
+     * superclasses are not included.
+     *
+     * @return an unmodifiable list of the declared instance fields.
+     * @see Class#getDeclaredFields()
+     */
+    public List<Field> getInstanceFields() {
+        List<Field> value = instanceFields;
+        if (value == null) {
+            value = unmodifiableList(findInstanceFields(type));
+            instanceFields = value;
+        }
+
+        return value;
+    }
+
+    private static List<Field> findInstanceFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) == false) {
+                fields.add(field);
+            }
+        }
+
+        return fields;
+    }
+
+    /**
+     * Returns the JavaBeans properties of the class.
+     *
+     * @return an unmodifiable list of the property descriptors.
+     * @throws RuntimeException if the class cannot be introspected.
+     * @see Introspector#getBeanInfo(Class)
+     */
+    public List<PropertyDescriptor> getProperties() {
+        List<PropertyDescriptor> value = properties;
+        if (value == null) {
+            value = unmodifiableList(asList(findProperties(type)));
+            properties = value;
+        }
+
+        return value;
+    }
+
+    private static PropertyDescriptor[] findProperties(Class<?> type) {
+        try {
+            return Introspector.getBeanInfo(type).getPropertyDescriptors();
+        } catch (IntrospectionException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * Returns the parameter names that the given constructor declares with
+     * {@link ConstructorProperties @ConstructorProperties}.
+     *
+     * @param constructor a constructor declared by the class.
+     * @return an {@link Optional} containing an unmodifiable list of the
+     *         parameter names, or empty if the constructor is not annotated.
+     */
+    public Optional<List<String>> getConstructorProperties(
+        Constructor<?> constructor
+    ) {
+        Optional<List<String>> value = parameterNames.get(constructor);
+        if (value == null) {
+            value = findConstructorProperties(constructor);
+            parameterNames.putIfAbsent(constructor, value);
+        }
+
+        return value;
+    }
+
+    private static Optional<List<String>> findConstructorProperties(
+        Constructor<?> constructor
+    ) {
+        ConstructorProperties annotation =
+            constructor.getDeclaredAnnotation(ConstructorProperties.class);
+        return annotation == null
+            ? Optional.empty()
+            : Optional.of(unmodifiableList(asList(annotation.value())));
+    }
+}
@@ -0,0 +1,105 @@
+package autoparams.internal.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Invokes a constructor through a method handle, falling back to reflection
+ * when a method handle cannot be obtained for the constructor.
+ * <p>
+ * Instances are cached per constructor and can be shared across threads.
+ * </p>
+ * <p>
+ * This class is for internal implementation purposes and is not safe for
+ * external use because its interface and behavior can change at any time.
+ * </p>
+ */
+public final class ConstructorInvoker {
+
+    private static final MethodType SPREAD_TYPE =
+        MethodType.methodType(Object.class, Object[].class);
+
+    private static final ClassValue<Map<Constructor<?>, ConstructorInvoker>>
+        CACHE = new ClassValue<Map<Constructor<?>, ConstructorInvoker>>() {
+
+            @Override
+            protected Map<Constructor<?>, ConstructorInvoker> computeValue(
+                Class<?> type
+            ) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+    private final Constructor<?> constructor;
+    private final Class<?>[] parameterTypes;
+    private final MethodHandle handle;
+
+    private ConstructorInvoker(Constructor<?> constructor, MethodHandle handle) {
+        this.constructor = constructor;
+        this.parameterTypes = constructor.getParameterTypes();
+        this.handle = handle;
+    }
+
+    /**
+     * Returns the {@link ConstructorInvoker} for the given constructor.
+     *
+     * @param constructor the constructor to invoke.
+     * @return the {@link ConstructorInvoker} for the constructor.
+     */
+    public static ConstructorInvoker get(Constructor<?> constructor) {
+        return CACHE
+            .get(constructor.getDeclaringClass())
+            .computeIfAbsent(constructor, ConstructorInvoker::create);
+    }
+
+    private static ConstructorInvoker create(Constructor<?> constructor) {
+        return new ConstructorInvoker(constructor, unreflect(constructor));
+    }
+
+    private static MethodHandle unreflect(Constructor<?> constructor) {
+        try {
+            return MethodHandles
+                .lookup()
+                .unreflectConstructor(constructor)
+                .asSpreader(Object[].class, constructor.getParameterCount())
+                .asType(SPREAD_TYPE);
+        } catch (IllegalAccessException | RuntimeException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates a new instance by invoking the constructor with the given
+     * arguments.
+     *
+     * @param arguments the arguments to pass to the constructor.
+     * @return the new instance.
+     * @throws IllegalArgumentException     if the arguments do not match the
+     *                                      parameters of the constructor.
+     * @throws ReflectiveOperationException if the constructor cannot be
+     *                                      invoked or throws an exception.
+     *                                      An exception thrown by the
+     *                                      constructor is wrapped in an
+     *                                      {@link InvocationTargetException}.
+     */
+    public Object newInstance(Object[] arguments)
+        throws ReflectiveOperationException {
+        if (handle == null) {
+            return constructor.newInstance(arguments);
+        }
+
+        // Arguments are checked first so that only exceptions thrown by the
+        // constructor are wrapped, as they are by reflection.
+        ArgumentTypes.check(parameterTypes, arguments);
+        try {
+            return (Object) handle.invokeExact(arguments);
+        } catch (Throwable throwable) {
+            throw new InvocationTargetException(throwable);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package autoparams.internal.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes a value to an instance field or through a single-parameter setter
+ * method by using a method handle, falling back to reflection when a method
+ * handle cannot be obtained for the member.
+ * <p>
+ * Instances are cached per member and can be shared across threads.
+ * </p>
+ * <p>
+ * This class is for internal implementation purposes and is not safe for
+ * external use because its interface and behavior can change at any time.
+ * </p>
+ */
+public final class MemberWriter {
+
+    private static final MethodType WRITER_TYPE =
+        MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<Map<Member, MemberWriter>> CACHE =
+        new ClassValue<Map<Member, MemberWriter>>() {
+
+            @Override
+            protected Map<Member, MemberWriter> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+    private final Field field;
+    private final Method setter;
+    private final Class<?> declaringClass;
+    private final Class<?> valueType;
+    private final MethodHandle handle;
+
+    private MemberWriter(Field field, Method setter, MethodHandle handle) {
+        this.field = field;
+        this.setter = setter;
+        this.declaringClass = field != null
+            ? field.getDeclaringClass()
+            : setter.getDeclaringClass();
+        this.valueType = field != null
+            ? field.getType()
+            : setter.getParameterTypes()[0];
+        this.handle = handle;
+    }
+
+    /**
+     * Returns the {@link MemberWriter} for the given instance field.
+     * <p>
+     * The accessibility of the field must be set before this method is
+     * called for the first time for the field.
+     * </p>
+     *
+     * @param field the instance field to write.
+     * @return the {@link MemberWriter} for the field.
+     */
+    public static MemberWriter get(Field field) {
+        return CACHE
+            .get(field.getDeclaringClass())
+            .computeIfAbsent(field, member -> create(field));
+    }
+
+    /**
+     * Returns the {@link MemberWriter} for the given setter method.
+     *
+     * @param setter the instance method that takes a single parameter.
+     * @return the {@link MemberWriter} for the setter.
+     */
+    public static MemberWriter get(Method setter) {
+        return CACHE
+            .get(setter.getDeclaringClass())
+            .computeIfAbsent(setter, member -> create(setter));
+    }
+
+    private static MemberWriter create(Field field) {
+        MethodHandle handle;
+        try {
+            handle = adapt(MethodHandles.lookup().unreflectSetter(field));
+        } catch (IllegalAccessException | RuntimeException exception) {
+            handle = null;
+        }
+
+        return new MemberWriter(field, null, handle);
+    }
+
+    private static MemberWriter create(Method setter) {
+        MethodHandle handle;
+        try {
+            handle = adapt(MethodHandles.lookup().unreflect(setter));
+        } catch (IllegalAccessException | RuntimeException exception) {
+            handle = null;
+        }
+
+        return new MemberWriter(null, setter, handle);
+    }
+
+    private static MethodHandle adapt(MethodHandle handle) {
+        return handle.asType(WRITER_TYPE);
+    }
+
+    /**
+     * Writes the given value to the member of the given target.
+     *
+     * @param target the object whose member is written.
+     * @param value  the value to write.
+     * @throws IllegalArgumentException     if {@code target} is not an
+     *                                      instance of the declaring class of
+     *                                      the member or {@code value} does not
+     *                                      match the type of the member.
+     * @throws ReflectiveOperationException if the member cannot be written.
+     *                                      An exception thrown by a setter
+     *                                      method is wrapped in an
+     *                                      {@link InvocationTargetException}.
+     */
+    public void write(Object target, Object value)
+        throws ReflectiveOperationException {
+        if (handle == null) {
+            writeReflectively(target, value);
+            return;
+        }
+
+        // The target and the value are checked first so that only exceptions
+        // thrown by a setter method are wrapped, as they are by reflection.
+        ArgumentTypes.checkTarget(declaringClass, target);
+        ArgumentTypes.check(valueType, value);
+        try {
+            handle.invokeExact(target, value);
+        } catch (Throwable throwable) {
+            throw new InvocationTargetException(throwable);
+        }
+    }
+
+    private void writeReflectively(Object target, Object value)
+        throws ReflectiveOperationException {
+        if (field != null) {
+            field.set(target, value);
+        } else {
+            setter.invoke(target, value);
+        }
+    }
+}
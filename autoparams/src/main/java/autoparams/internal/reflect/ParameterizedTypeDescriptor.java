@@ -2,12 +2,28 @@ package autoparams.internal.reflect;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 final class ParameterizedTypeDescriptor implements ParameterizedType {
 
+    private static final ClassValue<Map<ParameterizedType, ParameterizedType>>
+        INTERNED = new ClassValue<Map<ParameterizedType, ParameterizedType>>() {
+
+            @Override
+            protected Map<ParameterizedType, ParameterizedType> computeValue(
+                Class<?> type
+            ) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
     private final Type[] actualTypeArguments;
     private final Type rawType;
     private final Type ownerType;
+    private final int hashCode;
 
     public ParameterizedTypeDescriptor(
         Type[] actualTypeArguments,
@@ -17,6 +33,29 @@ final class ParameterizedTypeDescriptor implements ParameterizedType {
         this.actualTypeArguments = actualTypeArguments;
         this.rawType = rawType;
         this.ownerType = ownerType;
+        this.hashCode = Arrays.hashCode(actualTypeArguments)
+            ^ Objects.hashCode(ownerType)
+            ^ Objects.hashCode(rawType);
+    }
+
+    public static ParameterizedType intern(
+        Type[] actualTypeArguments,
+        Type rawType,
+        Type ownerType
+    ) {
+        ParameterizedType type = new ParameterizedTypeDescriptor(
+            actualTypeArguments,
+            rawType,
+            ownerType
+        );
+        Class<?> anchor = TypeAnchor.of(type);
+        if (anchor == null) {
+            return type;
+        }
+
+        ParameterizedType interned =
+            INTERNED.get(anchor).putIfAbsent(type, type);
+        return interned == null ? type : interned;
     }
 
     @SuppressWarnings("NullableProblems")
@@ -35,4 +74,33 @@ final class ParameterizedTypeDescriptor implements ParameterizedType {
     public Type getOwnerType() {
         return ownerType;
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (!(obj instanceof ParameterizedType)) {
+            return false;
+        }
+
+        if (obj instanceof ParameterizedTypeDescriptor) {
+            ParameterizedTypeDescriptor other = (ParameterizedTypeDescriptor) obj;
+            return hashCode == other.hashCode
+                && Objects.equals(rawType, other.rawType)
+                && Objects.equals(ownerType, other.ownerType)
+                && Arrays.equals(actualTypeArguments, other.actualTypeArguments);
+        }
+
+        ParameterizedType other = (ParameterizedType) obj;
+        return Objects.equals(rawType, other.getRawType())
+            && Objects.equals(ownerType, other.getOwnerType())
+            && Arrays.equals(actualTypeArguments, other.getActualTypeArguments());
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
 }
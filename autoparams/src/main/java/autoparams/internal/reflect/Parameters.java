@@ -1,6 +1,5 @@
 package autoparams.internal.reflect;
 
-import java.beans.ConstructorProperties;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Parameter;
@@ -35,11 +34,11 @@ public final class Parameters {
 
         Executable executable = parameter.getDeclaringExecutable();
         if (executable instanceof Constructor) {
-            ConstructorProperties properties = executable
-                .getDeclaredAnnotation(ConstructorProperties.class);
-            if (properties != null) {
-                return Optional.of(properties.value()[index]);
-            }
+            Constructor<?> constructor = (Constructor<?>) executable;
+            return ClassModel
+                .of(constructor.getDeclaringClass())
+                .getConstructorProperties(constructor)
+                .map(names -> names.get(index));
         }
 
         return Optional.empty();
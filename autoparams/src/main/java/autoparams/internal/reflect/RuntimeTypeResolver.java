@@ -5,42 +5,90 @@ import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.IntStream;
-
-import static java.util.stream.Collectors.toMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Resolves generic type variables to their runtime actual types.
  * <p>
+ * Resolvers are cached per root type, and each resolver remembers the types it
+ * has resolved, so a generic type is resolved only once. Resolved
+ * parameterized types are interned. Both caches are attached to a class that
+ * the type refers to, so they do not keep the class loaders of the type
+ * arguments alive. Resolvers can be shared across threads.
+ * </p>
+ * <p>
  * This class is for internal implementation purposes and is not safe for
  * external use because its interface and behavior can change at any time.
  * </p>
  */
 public final class RuntimeTypeResolver {
 
+    private static final RuntimeTypeResolver EMPTY =
+        new RuntimeTypeResolver(Collections.emptyMap(), null);
+
+    private static final ClassValue<Map<Type, RuntimeTypeResolver>> CACHE =
+        new ClassValue<Map<Type, RuntimeTypeResolver>>() {
+
+            @Override
+            protected Map<Type, RuntimeTypeResolver> computeValue(
+                Class<?> type
+            ) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
     private final Map<TypeVariable<?>, Type> typeArguments;
+    private final Map<Type, Type> resolvedTypes;
 
-    private RuntimeTypeResolver(Map<TypeVariable<?>, Type> typeArguments) {
+    private RuntimeTypeResolver(
+        Map<TypeVariable<?>, Type> typeArguments,
+        Map<Type, Type> resolvedTypes
+    ) {
         this.typeArguments = typeArguments;
+        this.resolvedTypes = resolvedTypes;
     }
 
     /**
-     * Creates a {@link RuntimeTypeResolver} for the given root type.
+     * Returns the {@link RuntimeTypeResolver} for the given root type.
      *
      * @param rootType the root type.
-     * @return a new {@link RuntimeTypeResolver} instance.
+     * @return the {@link RuntimeTypeResolver} for the root type. Resolvers are
+     *         cached, so the same instance may be returned for equal root
+     *         types.
      */
     public static RuntimeTypeResolver create(Type rootType) {
-        return new RuntimeTypeResolver(getTypeArguments(rootType));
-    }
+        if (rootType instanceof ParameterizedType == false) {
+            return EMPTY;
+        }
+
+        ParameterizedType parameterizedType = (ParameterizedType) rootType;
+        Class<?> anchor = TypeAnchor.of(rootType);
+        if (anchor == null) {
+            return new RuntimeTypeResolver(
+                getTypeArguments(parameterizedType),
+                new ConcurrentHashMap<>()
+            );
+        }
 
-    private static Map<TypeVariable<?>, Type> getTypeArguments(Type rootType) {
-        return rootType instanceof ParameterizedType
-            ? getTypeArguments((ParameterizedType) rootType)
-            : Collections.emptyMap();
+        Map<Type, RuntimeTypeResolver> resolvers = CACHE.get(anchor);
+        RuntimeTypeResolver resolver = resolvers.get(rootType);
+        if (resolver == null) {
+            resolver = new RuntimeTypeResolver(
+                getTypeArguments(parameterizedType),
+                new ConcurrentHashMap<>()
+            );
+            RuntimeTypeResolver previous =
+                resolvers.putIfAbsent(rootType, resolver);
+            if (previous != null) {
+                resolver = previous;
+            }
+        }
+
+        return resolver;
     }
 
     private static Map<TypeVariable<?>, Type> getTypeArguments(
@@ -49,10 +97,12 @@ public final class RuntimeTypeResolver {
         Class<?> rawType = (Class<?>) rootType.getRawType();
         TypeVariable<?>[] parameters = rawType.getTypeParameters();
         Type[] arguments = rootType.getActualTypeArguments();
-        return IntStream
-            .range(0, parameters.length)
-            .boxed()
-            .collect(toMap(i -> parameters[i], i -> resolveWildcardType(arguments[i])));
+        Map<TypeVariable<?>, Type> typeArguments = new HashMap<>();
+        for (int i = 0; i < parameters.length; i++) {
+            typeArguments.put(parameters[i], resolveWildcardType(arguments[i]));
+        }
+
+        return typeArguments;
     }
 
     private static Type resolveWildcardType(Type type) {
@@ -77,7 +127,19 @@ public final class RuntimeTypeResolver {
      * @return the resolved type.
      */
     public Type resolve(Type type) {
-        return resolve(type, new HashSet<>());
+        if (resolvedTypes == null || type == null) {
+            return resolve(type, null);
+        }
+
+        Type resolved = resolvedTypes.get(type);
+        if (resolved == null) {
+            resolved = resolve(type, null);
+            if (resolved != null) {
+                resolvedTypes.putIfAbsent(type, resolved);
+            }
+        }
+
+        return resolved;
     }
 
     private Type resolve(Type type, Set<TypeVariable<?>> visiting) {
@@ -86,6 +148,9 @@ public final class RuntimeTypeResolver {
             if (typeArguments.containsKey(variable)) {
                 return typeArguments.get(variable);
             }
+            if (visiting == null) {
+                visiting = new HashSet<>();
+            }
             if (!visiting.add(variable)) {
                 return null;
             }
@@ -114,7 +179,7 @@ public final class RuntimeTypeResolver {
         if (resolvedArgs == originalArgs) {
             return type;
         }
-        return new ParameterizedTypeDescriptor(
+        return ParameterizedTypeDescriptor.intern(
             resolvedArgs,
             resolve(type.getRawType(), visiting),
             resolve(type.getOwnerType(), visiting)
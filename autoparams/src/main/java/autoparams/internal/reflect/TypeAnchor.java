@@ -0,0 +1,136 @@
+package autoparams.internal.reflect;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.GenericDeclaration;
+import java.lang.reflect.Member;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+
+/**
+ * Finds the class that a cache entry for a type can be attached to.
+ * <p>
+ * A value cached with {@link ClassValue} is kept alive by its class. If the
+ * value refers to a type whose classes were loaded by a descendant class
+ * loader, caching it on a class such as {@code List.class} would keep that
+ * class loader alive for the lifetime of the application. The anchor of a
+ * type is the class, among those referenced by the type, whose class loader
+ * can see all the other classes, so an entry cached on the anchor does not
+ * outlive any class of the type.
+ * </p>
+ * <p>
+ * This class is for internal implementation purposes and is not safe for
+ * external use because its interface and behavior can change at any time.
+ * </p>
+ */
+public final class TypeAnchor {
+
+    private Class<?> anchor;
+    private boolean conflicting;
+
+    private TypeAnchor() {
+    }
+
+    /**
+     * Returns the anchor class of the specified type.
+     *
+     * @param type the type to find the anchor of.
+     * @return the anchor class, or {@code null} if the classes of the type were
+     *         loaded by unrelated class loaders and the type must not be
+     *         cached.
+     */
+    public static Class<?> of(Type type) {
+        TypeAnchor finder = new TypeAnchor();
+        finder.visit(type);
+        return finder.conflicting ? null : finder.anchor;
+    }
+
+    /**
+     * Checks if an entry for the specified type can be cached on the specified
+     * class.
+     *
+     * @param holder the class to cache the entry on.
+     * @param type   the type that the entry refers to.
+     * @return {@code true} if the class loader of {@code holder} can see all
+     *         the classes of the type, otherwise {@code false}.
+     */
+    public static boolean isVisibleFrom(Class<?> holder, Type type) {
+        Class<?> anchor = of(type);
+        return anchor != null
+            && isAncestor(anchor.getClassLoader(), holder.getClassLoader());
+    }
+
+    private void visit(Type type) {
+        if (conflicting || type == null) {
+            return;
+        }
+
+        if (type instanceof Class<?>) {
+            Class<?> cls = (Class<?>) type;
+            while (cls.isArray()) {
+                cls = cls.getComponentType();
+            }
+            offer(cls);
+        } else if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            visit(parameterizedType.getRawType());
+            visit(parameterizedType.getOwnerType());
+            for (Type argument : parameterizedType.getActualTypeArguments()) {
+                visit(argument);
+            }
+        } else if (type instanceof GenericArrayType) {
+            visit(((GenericArrayType) type).getGenericComponentType());
+        } else if (type instanceof WildcardType) {
+            WildcardType wildcardType = (WildcardType) type;
+            for (Type bound : wildcardType.getUpperBounds()) {
+                visit(bound);
+            }
+            for (Type bound : wildcardType.getLowerBounds()) {
+                visit(bound);
+            }
+        } else if (type instanceof TypeVariable<?>) {
+            // The bounds are visible to the class that declares the variable.
+            GenericDeclaration declaration =
+                ((TypeVariable<?>) type).getGenericDeclaration();
+            if (declaration instanceof Class<?>) {
+                offer((Class<?>) declaration);
+            } else if (declaration instanceof Member) {
+                offer(((Member) declaration).getDeclaringClass());
+            }
+        }
+    }
+
+    private void offer(Class<?> cls) {
+        if (anchor == null) {
+            anchor = cls;
+            return;
+        }
+
+        ClassLoader current = anchor.getClassLoader();
+        ClassLoader candidate = cls.getClassLoader();
+        if (current == candidate || isAncestor(candidate, current)) {
+            return;
+        }
+
+        if (isAncestor(current, candidate)) {
+            anchor = cls;
+        } else {
+            conflicting = true;
+        }
+    }
+
+    private static boolean isAncestor(ClassLoader ancestor, ClassLoader loader) {
+        if (ancestor == null) {
+            return true;
+        }
+
+        for (ClassLoader l = loader; l != null; l = l.getParent()) {
+            if (l == ancestor) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -3,16 +3,33 @@ package autoparams.internal.reflect;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Provides utility methods for {@link Type} objects.
  * <p>
+ * The results of {@link #implementsInterface(Type)} are cached per pair of
+ * implementation type and interface type, so repeated checks cost a single
+ * map lookup. A result is cached only if the class loader of the
+ * implementation type can see all the classes of the interface type.
+ * </p>
+ * <p>
  * This class is for internal implementation purposes and is not safe for
  * external use because its interface and behavior can change at any time.
  * </p>
  */
 public final class TypeLens {
 
+    private static final ClassValue<Map<Type, Boolean>> IMPLEMENTED_INTERFACES =
+        new ClassValue<Map<Type, Boolean>>() {
+
+            @Override
+            protected Map<Type, Boolean> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
     private final Type type;
 
     /**
@@ -41,13 +58,21 @@ public final class TypeLens {
         Class<?> implementationType,
         Type type
     ) {
-        if (type instanceof Class) {
-            return implementsInterface(implementationType, (Class<?>) type);
-        } else if (type instanceof ParameterizedType) {
-            return implementsInterface(
-                implementationType,
-                (ParameterizedType) type
-            );
+        if (type instanceof Class || type instanceof ParameterizedType) {
+            if (TypeAnchor.isVisibleFrom(implementationType, type) == false) {
+                // Caching the type on the class would keep its loader alive.
+                return testInterface(implementationType, type);
+            }
+
+            Map<Type, Boolean> results =
+                IMPLEMENTED_INTERFACES.get(implementationType);
+            Boolean result = results.get(type);
+            if (result == null) {
+                result = testInterface(implementationType, type);
+                results.putIfAbsent(type, result);
+            }
+
+            return result;
         } else {
             return false;
         }
@@ -74,6 +99,22 @@ public final class TypeLens {
         return false;
     }
 
+    private static boolean testInterface(
+        Class<?> implementationType,
+        Type type
+    ) {
+        if (type instanceof Class) {
+            return implementsInterface(implementationType, (Class<?>) type);
+        } else if (type instanceof ParameterizedType) {
+            return implementsInterface(
+                implementationType,
+                (ParameterizedType) type
+            );
+        } else {
+            return false;
+        }
+    }
+
     /**
      * Checks if the type inspected by this {@link TypeLens} matches the
      * specified type.
@@ -14,6 +14,7 @@ import java.util.function.Predicate;
 
 import autoparams.ParameterQuery;
 import autoparams.ResolutionContext;
+import autoparams.internal.reflect.ClassModel;
 import autoparams.internal.reflect.RuntimeTypeResolver;
 
 import static autoparams.internal.reflect.Parameters.getParameterName;
@@ -428,7 +429,7 @@ public class NullGuardValidator {
 
         Collection<Method> selectMethods(Class<?> type) {
             List<Method> result = new ArrayList<>();
-            for (Method method : type.getMethods()) {
+            for (Method method : ClassModel.of(type).getMethods()) {
                 if (method.getDeclaringClass().equals(Object.class)) {
                     continue;
                 }
@@ -441,7 +442,7 @@ public class NullGuardValidator {
 
         Collection<Constructor<?>> selectConstructors(Class<?> type) {
             List<Constructor<?>> result = new ArrayList<>();
-            for (Constructor<?> constructor : type.getConstructors()) {
+            for (Constructor<?> constructor : ClassModel.of(type).getConstructors()) {
                 if (constructorPredicate.test(constructor)) {
                     result.add(constructor);
                 }
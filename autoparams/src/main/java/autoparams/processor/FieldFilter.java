@@ -0,0 +1,66 @@
+package autoparams.processor;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static java.util.Arrays.asList;
+
+final class FieldFilter implements Predicate<Field> {
+
+    public static final FieldFilter ALL =
+        new FieldFilter(null, Collections.emptySet());
+
+    private final Set<String> includedNames;
+    private final Set<String> excludedNames;
+
+    private FieldFilter(Set<String> includedNames, Set<String> excludedNames) {
+        this.includedNames = includedNames;
+        this.excludedNames = excludedNames;
+    }
+
+    public FieldFilter including(String... fieldNames) {
+        Set<String> names = new HashSet<>(asList(fieldNames));
+        if (includedNames != null) {
+            names.retainAll(includedNames);
+        }
+
+        return new FieldFilter(names, excludedNames);
+    }
+
+    public FieldFilter excluding(String... fieldNames) {
+        Set<String> names = new HashSet<>(excludedNames);
+        names.addAll(asList(fieldNames));
+        return new FieldFilter(includedNames, names);
+    }
+
+    @Override
+    public boolean test(Field field) {
+        String name = field.getName();
+        return (includedNames == null || includedNames.contains(name))
+            && excludedNames.contains(name) == false;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj instanceof FieldFilter == false) {
+            return false;
+        }
+
+        FieldFilter other = (FieldFilter) obj;
+        return Objects.equals(includedNames, other.includedNames)
+            && excludedNames.equals(other.excludedNames);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(includedNames, excludedNames);
+    }
+}
@@ -0,0 +1,104 @@
+package autoparams.processor;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import autoparams.FieldQuery;
+import autoparams.ResolutionContext;
+import autoparams.internal.reflect.ClassModel;
+import autoparams.internal.reflect.MemberWriter;
+import autoparams.internal.reflect.RuntimeTypeResolver;
+import autoparams.internal.reflect.TypeAnchor;
+
+import static java.util.Arrays.asList;
+
+final class FieldWriterPlan {
+
+    private static final ClassValue<Map<List<Object>, FieldWriterPlan>> CACHE =
+        new ClassValue<Map<List<Object>, FieldWriterPlan>>() {
+
+            @Override
+            protected Map<List<Object>, FieldWriterPlan> computeValue(
+                Class<?> type
+            ) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+    private final MemberWriter[] writers;
+    private final FieldQuery[] queries;
+
+    private FieldWriterPlan(MemberWriter[] writers, FieldQuery[] queries) {
+        this.writers = writers;
+        this.queries = queries;
+    }
+
+    public static FieldWriterPlan get(Type type, FieldFilter filter) {
+        Class<?> anchor = TypeAnchor.of(type);
+        if (anchor == null) {
+            return create(type, filter);
+        }
+
+        Map<List<Object>, FieldWriterPlan> plans = CACHE.get(anchor);
+        List<Object> key = asList(type, filter);
+        FieldWriterPlan plan = plans.get(key);
+        if (plan == null) {
+            plan = create(type, filter);
+            FieldWriterPlan previous = plans.putIfAbsent(key, plan);
+            if (previous != null) {
+                plan = previous;
+            }
+        }
+
+        return plan;
+    }
+
+    private static FieldWriterPlan create(Type type, FieldFilter filter) {
+        List<MemberWriter> writers = new ArrayList<>();
+        List<FieldQuery> queries = new ArrayList<>();
+        Type current = type;
+        while (current != null) {
+            Class<?> rawType = getRawType(current);
+            RuntimeTypeResolver typeResolver =
+                RuntimeTypeResolver.create(current);
+            for (Field field : ClassModel.of(rawType).getInstanceFields()) {
+                if (filter.test(field)) {
+                    field.setAccessible(true);
+                    Type fieldType = typeResolver.resolve(field.getGenericType());
+                    writers.add(MemberWriter.get(field));
+                    queries.add(new FieldQuery(field, fieldType));
+                }
+            }
+
+            current = rawType.getGenericSuperclass();
+        }
+
+        return new FieldWriterPlan(
+            writers.toArray(new MemberWriter[0]),
+            queries.toArray(new FieldQuery[0])
+        );
+    }
+
+    private static Class<?> getRawType(Type type) {
+        return type instanceof ParameterizedType
+            ? (Class<?>) ((ParameterizedType) type).getRawType()
+            : (Class<?>) type;
+    }
+
+    public void writeFields(Object target, ResolutionContext context) {
+        for (int index = 0; index < writers.length; index++) {
+            Object value = context.resolve(queries[index]);
+            try {
+                writers[index].write(target, value);
+            } catch (IllegalArgumentException |
+                     ReflectiveOperationException exception) {
+                throw new RuntimeException(exception);
+            }
+        }
+    }
+}
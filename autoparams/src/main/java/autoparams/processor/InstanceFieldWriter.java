@@ -1,17 +1,11 @@
 package autoparams.processor;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.function.Predicate;
 
 import autoparams.FieldQuery;
 import autoparams.ObjectQuery;
 import autoparams.ResolutionContext;
-import autoparams.internal.reflect.RuntimeTypeResolver;
-
-import static java.util.Arrays.stream;
 
 /**
  * Injects values into instance fields of a specified type using reflection.
@@ -20,6 +14,10 @@ import static java.util.Arrays.stream;
  * non-static instance fields of the target type. You can customize which fields
  * are processed by including or excluding specific field names.
  * </p>
+ * <p>
+ * The selected fields, their resolved generic types and their writers are
+ * prepared once per type and field selection, and reused for every instance.
+ * </p>
  *
  * <b>Example:</b>
  * <pre>
@@ -36,7 +34,7 @@ import static java.util.Arrays.stream;
 public class InstanceFieldWriter implements ObjectProcessor {
 
     private final Class<?> targetType;
-    private final Predicate<Field> predicate;
+    private final FieldFilter filter;
 
     /**
      * Creates a new writer for injecting values into instance fields of the
@@ -58,15 +56,12 @@ public class InstanceFieldWriter implements ObjectProcessor {
      * @see #excluding(String...)
      */
     public InstanceFieldWriter(Class<?> targetType) {
-        this(targetType, x -> true);
+        this(targetType, FieldFilter.ALL);
     }
 
-    private InstanceFieldWriter(
-        Class<?> targetType,
-        Predicate<Field> predicate
-    ) {
+    private InstanceFieldWriter(Class<?> targetType, FieldFilter filter) {
         this.targetType = targetType;
-        this.predicate = predicate;
+        this.filter = filter;
     }
 
     /**
@@ -91,24 +86,7 @@ public class InstanceFieldWriter implements ObjectProcessor {
     ) {
         Type type = query.getType();
         if (getRawType(type).equals(targetType)) {
-            writeFields(type, value, context);
-        }
-    }
-
-    private void writeFields(
-        Type type,
-        Object value,
-        ResolutionContext context
-    ) {
-        RuntimeTypeResolver typeResolver = RuntimeTypeResolver.create(type);
-        stream(getRawType(type).getDeclaredFields())
-            .filter(field -> Modifier.isStatic(field.getModifiers()) == false)
-            .filter(predicate)
-            .forEach(field -> writeField(value, field, context, typeResolver));
-
-        Type superType = getRawType(type).getGenericSuperclass();
-        if (superType != null) {
-            writeFields(superType, value, context);
+            FieldWriterPlan.get(type, filter).writeFields(value, context);
         }
     }
 
@@ -118,23 +96,6 @@ public class InstanceFieldWriter implements ObjectProcessor {
             : (Class<?>) type;
     }
 
-    private void writeField(
-        Object target,
-        Field field,
-        ResolutionContext context,
-        RuntimeTypeResolver typeResolver
-    ) {
-        field.setAccessible(true);
-        Type type = typeResolver.resolve(field.getGenericType());
-        Object argument = context.resolve(new FieldQuery(field, type));
-        try {
-            field.set(target, argument);
-        } catch (IllegalArgumentException |
-                 IllegalAccessException exception) {
-            throw new RuntimeException(exception);
-        }
-    }
-
     /**
      * Returns a new writer that injects values only into the specified fields.
      * <p>
@@ -155,12 +116,7 @@ public class InstanceFieldWriter implements ObjectProcessor {
      * @see #excluding(String...)
      */
     public InstanceFieldWriter including(String... fieldNames) {
-        return new InstanceFieldWriter(
-            targetType,
-            predicate.and(field ->
-                stream(fieldNames)
-                    .anyMatch(x -> field.getName().equals(x)))
-        );
+        return new InstanceFieldWriter(targetType, filter.including(fieldNames));
     }
 
     /**
@@ -184,11 +140,6 @@ public class InstanceFieldWriter implements ObjectProcessor {
      * @see #including(String...)
      */
     public InstanceFieldWriter excluding(String... fieldNames) {
-        return new InstanceFieldWriter(
-            targetType,
-            predicate.and(field ->
-                stream(fieldNames)
-                    .allMatch(x -> field.getName().equals(x) == false))
-        );
+        return new InstanceFieldWriter(targetType, filter.excluding(fieldNames));
     }
 }
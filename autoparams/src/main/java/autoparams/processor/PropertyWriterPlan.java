@@ -0,0 +1,126 @@
+package autoparams.processor;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import autoparams.ObjectQuery;
+import autoparams.ParameterQuery;
+import autoparams.ResolutionContext;
+import autoparams.internal.reflect.ClassModel;
+import autoparams.internal.reflect.MemberWriter;
+import autoparams.internal.reflect.RuntimeTypeResolver;
+import autoparams.internal.reflect.TypeAnchor;
+
+final class PropertyWriterPlan {
+
+    private static final ClassValue<Map<Type, PropertyWriterPlan>> CACHE =
+        new ClassValue<Map<Type, PropertyWriterPlan>>() {
+
+            @Override
+            protected Map<Type, PropertyWriterPlan> computeValue(
+                Class<?> type
+            ) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+    private final MemberWriter[] writers;
+    private final ObjectQuery[] queries;
+
+    private PropertyWriterPlan(MemberWriter[] writers, ObjectQuery[] queries) {
+        this.writers = writers;
+        this.queries = queries;
+    }
+
+    public static PropertyWriterPlan get(Type type, Class<?> rawType) {
+        Class<?> anchor = TypeAnchor.of(type);
+        if (anchor == null) {
+            return create(type, rawType);
+        }
+
+        Map<Type, PropertyWriterPlan> plans = CACHE.get(anchor);
+        PropertyWriterPlan plan = plans.get(type);
+        if (plan == null) {
+            plan = create(type, rawType);
+            PropertyWriterPlan previous = plans.putIfAbsent(type, plan);
+            if (previous != null) {
+                plan = previous;
+            }
+        }
+
+        return plan;
+    }
+
+    private static PropertyWriterPlan create(Type type, Class<?> rawType) {
+        List<Method> setters = findSetters(rawType);
+        RuntimeTypeResolver typeResolver = type instanceof ParameterizedType
+            ? RuntimeTypeResolver.create(type)
+            : null;
+
+        MemberWriter[] writers = new MemberWriter[setters.size()];
+        ObjectQuery[] queries = new ObjectQuery[setters.size()];
+        for (int index = 0; index < writers.length; index++) {
+            Method setter = setters.get(index);
+            Parameter parameter = setter.getParameters()[0];
+            Type propertyType = parameter.getParameterizedType();
+            writers[index] = MemberWriter.get(setter);
+            queries[index] = new ParameterQuery(
+                parameter,
+                0,
+                typeResolver == null
+                    ? propertyType
+                    : typeResolver.resolve(propertyType)
+            );
+        }
+
+        return new PropertyWriterPlan(writers, queries);
+    }
+
+    private static List<Method> findSetters(Class<?> type) {
+        ClassModel model = ClassModel.of(type);
+        List<Method> setters = new ArrayList<>();
+        Set<Method> propertySetters = new HashSet<>();
+        for (PropertyDescriptor property : model.getProperties()) {
+            Method setter = property.getWriteMethod();
+            if (setter != null) {
+                setters.add(setter);
+                propertySetters.add(setter);
+            }
+        }
+
+        for (Method method : model.getMethods()) {
+            if (isChainingSetter(method, type)
+                && propertySetters.contains(method) == false) {
+                setters.add(method);
+            }
+        }
+
+        return setters;
+    }
+
+    private static boolean isChainingSetter(Method method, Class<?> type) {
+        return method.getName().startsWith("set")
+            && method.getParameterCount() == 1
+            && method.getReturnType().isAssignableFrom(type);
+    }
+
+    public void writeProperties(Object instance, ResolutionContext context) {
+        for (int index = 0; index < writers.length; index++) {
+            Object value = context.resolve(queries[index]);
+            try {
+                writers[index].write(instance, value);
+            } catch (ReflectiveOperationException exception) {
+                throw new RuntimeException(exception);
+            }
+        }
+    }
+}
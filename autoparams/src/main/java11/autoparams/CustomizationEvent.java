@@ -0,0 +1,19 @@
+package autoparams;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("autoparams.Customization")
+@Label("Customization")
+@Category("AutoParams")
+@Description("Application of a customizer to a ResolutionContext")
+@StackTrace(false)
+final class CustomizationEvent extends Event {
+
+    @Label("Customizer")
+    Class<?> customizer;
+}
@@ -0,0 +1,109 @@
+package autoparams;
+
+import java.lang.reflect.Method;
+
+import autoparams.generator.ObjectGenerator;
+import jdk.jfr.EventType;
+
+/**
+ * Records the events of {@link ResolutionEvents} with Java Flight Recorder.
+ * <p>
+ * This class links to the {@code jdk.jfr} module, so it is used only after
+ * {@link ResolutionEvents} has found the module. When an event type is not
+ * enabled in any recording, its {@code begin} method returns {@code null}
+ * without creating an event.
+ * </p>
+ *
+ * @see ResolveEvent
+ * @see CustomizationEvent
+ * @see TestContextCreationEvent
+ */
+final class FlightRecorderEvents {
+
+    private static final ThreadLocal<int[]> DEPTHS =
+        ThreadLocal.withInitial(() -> new int[1]);
+
+    private static final EventType RESOLVE_EVENT_TYPE =
+        EventType.getEventType(ResolveEvent.class);
+
+    private static final EventType CUSTOMIZATION_EVENT_TYPE =
+        EventType.getEventType(CustomizationEvent.class);
+
+    private static final EventType TEST_CONTEXT_CREATION_EVENT_TYPE =
+        EventType.getEventType(TestContextCreationEvent.class);
+
+    private FlightRecorderEvents() {
+    }
+
+    static boolean isResolveEnabled() {
+        return RESOLVE_EVENT_TYPE.isEnabled();
+    }
+
+    static Object beginResolve() {
+        if (RESOLVE_EVENT_TYPE.isEnabled() == false) {
+            return null;
+        }
+
+        ResolveEvent event = new ResolveEvent();
+        event.depth = DEPTHS.get()[0]++;
+        event.begin();
+        return event;
+    }
+
+    static void endResolve(
+        Object event,
+        ObjectQuery query,
+        ObjectGenerator generator
+    ) {
+        ResolveEvent resolveEvent = (ResolveEvent) event;
+        resolveEvent.end();
+        DEPTHS.get()[0]--;
+        if (resolveEvent.shouldCommit()) {
+            resolveEvent.queryType = query.getType().getTypeName();
+            resolveEvent.generator = generator == null
+                ? null
+                : generator.getClass();
+            resolveEvent.commit();
+        }
+    }
+
+    static Object beginCustomization() {
+        if (CUSTOMIZATION_EVENT_TYPE.isEnabled() == false) {
+            return null;
+        }
+
+        CustomizationEvent event = new CustomizationEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endCustomization(Object event, Object customizer) {
+        CustomizationEvent customizationEvent = (CustomizationEvent) event;
+        customizationEvent.end();
+        if (customizationEvent.shouldCommit()) {
+            customizationEvent.customizer = customizer.getClass();
+            customizationEvent.commit();
+        }
+    }
+
+    static Object beginTestContextCreation() {
+        if (TEST_CONTEXT_CREATION_EVENT_TYPE.isEnabled() == false) {
+            return null;
+        }
+
+        TestContextCreationEvent event = new TestContextCreationEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endTestContextCreation(Object event, Method testMethod) {
+        TestContextCreationEvent creationEvent =
+            (TestContextCreationEvent) event;
+        creationEvent.end();
+        if (creationEvent.shouldCommit()) {
+            creationEvent.testClass = testMethod.getDeclaringClass();
+            creationEvent.testMethod = testMethod.getName();
+            creationEvent.commit();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package autoparams;
+
+import java.lang.reflect.Method;
+
+import autoparams.generator.ObjectGenerator;
+
+/**
+ * Emits diagnostic events for resolutions, customizations and the creation
+ * of test resolution contexts.
+ * <p>
+ * This implementation is used on Java 11 and later, and records the events
+ * with Java Flight Recorder through {@link FlightRecorderEvents}. If the
+ * runtime image does not contain the {@code jdk.jfr} module, it does nothing,
+ * like the implementation used on Java 8.
+ * </p>
+ *
+ * @see FlightRecorderEvents
+ */
+final class ResolutionEvents {
+
+    private static final boolean RECORDABLE = isFlightRecorderPresent();
+
+    private ResolutionEvents() {
+    }
+
+    private static boolean isFlightRecorderPresent() {
+        try {
+            Class.forName(
+                "jdk.jfr.Event",
+                false,
+                ResolutionEvents.class.getClassLoader()
+            );
+            return true;
+        } catch (ClassNotFoundException | LinkageError exception) {
+            return false;
+        }
+    }
+
+    static boolean isResolveEnabled() {
+        return RECORDABLE && FlightRecorderEvents.isResolveEnabled();
+    }
+
+    static Object beginResolve() {
+        return RECORDABLE ? FlightRecorderEvents.beginResolve() : null;
+    }
+
+    static void endResolve(
+        Object event,
+        ObjectQuery query,
+        ObjectGenerator generator
+    ) {
+        if (event != null) {
+            FlightRecorderEvents.endResolve(event, query, generator);
+        }
+    }
+
+    static Object beginCustomization() {
+        return RECORDABLE ? FlightRecorderEvents.beginCustomization() : null;
+    }
+
+    static void endCustomization(Object event, Object customizer) {
+        if (event != null) {
+            FlightRecorderEvents.endCustomization(event, customizer);
+        }
+    }
+
+    static Object beginTestContextCreation() {
+        return RECORDABLE
+            ? FlightRecorderEvents.beginTestContextCreation()
+            : null;
+    }
+
+    static void endTestContextCreation(Object event, Method testMethod) {
+        if (event != null) {
+            FlightRecorderEvents.endTestContextCreation(event, testMethod);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package autoparams;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("autoparams.Resolve")
+@Label("Resolve")
+@Category("AutoParams")
+@Description("Resolution of an object by a ResolutionContext")
+@StackTrace(false)
+final class ResolveEvent extends Event {
+
+    @Label("Query Type")
+    String queryType;
+
+    @Label("Depth")
+    @Description("Number of resolutions enclosing this resolution")
+    int depth;
+
+    @Label("Generator")
+    @Description("Object generator that generated the object")
+    Class<?> generator;
+}
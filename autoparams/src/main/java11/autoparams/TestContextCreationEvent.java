@@ -0,0 +1,22 @@
+package autoparams;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("autoparams.TestContextCreation")
+@Label("Test Context Creation")
+@Category("AutoParams")
+@Description("Creation of the resolution context for a test method")
+@StackTrace(false)
+final class TestContextCreationEvent extends Event {
+
+    @Label("Test Class")
+    Class<?> testClass;
+
+    @Label("Test Method")
+    String testMethod;
+}
@@ -0,0 +1,49 @@
+package test.autoparams;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+public final class IsolatingClassLoader extends ClassLoader {
+
+    private final Class<?> isolated;
+
+    public IsolatingClassLoader(Class<?> isolated) {
+        super(isolated.getClassLoader());
+        this.isolated = isolated;
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve)
+        throws ClassNotFoundException {
+
+        if (name.equals(isolated.getName()) == false) {
+            return super.loadClass(name, resolve);
+        }
+
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> loaded = findLoadedClass(name);
+            if (loaded == null) {
+                byte[] bytes = readBytes(name);
+                loaded = defineClass(name, bytes, 0, bytes.length);
+            }
+
+            return loaded;
+        }
+    }
+
+    private byte[] readBytes(String name) throws ClassNotFoundException {
+        String resource = name.replace('.', '/') + ".class";
+        try (InputStream input = getParent().getResourceAsStream(resource)) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            for (int n; (n = input.read(buffer)) != -1; ) {
+                output.write(buffer, 0, n);
+            }
+
+            return output.toByteArray();
+        } catch (IOException exception) {
+            throw new ClassNotFoundException(name, exception);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package test.autoparams;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import autoparams.AutoSource;
+import autoparams.Prefetch;
+import autoparams.Repeat;
+import autoparams.customization.Customization;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class SpecsForAnnotationScanning {
+
+    private static final List<Integer> seededValues = new ArrayList<>();
+    private static int prefetchedRepetitions = 0;
+    private static int repetitions = 0;
+
+    public static class ThreadRecorder {
+
+        private final Thread thread = Thread.currentThread();
+    }
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Repeat(3)
+    @Customization(SpecsForRepeat.FixedSeed.class)
+    public @interface SeededTriple {
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    @SeededTriple
+    @Order(1)
+    void sut_finds_meta_annotations_for_every_repetition(int value) {
+        seededValues.add(value);
+    }
+
+    @Test
+    @Order(2)
+    void verify_sut_finds_meta_annotations_for_every_repetition() {
+        assertThat(seededValues).hasSize(3);
+        assertThat(new HashSet<>(seededValues)).hasSize(1);
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    @SeededTriple
+    @Prefetch
+    @Order(3)
+    void sut_scans_same_method_for_different_annotation_types(
+        ThreadRecorder recorder
+    ) {
+        assertNotSame(Thread.currentThread(), recorder.thread);
+        prefetchedRepetitions++;
+    }
+
+    @Test
+    @Order(4)
+    void verify_sut_scans_same_method_for_different_annotation_types() {
+        assertThat(prefetchedRepetitions).isEqualTo(3);
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    @Repeat(2)
+    @Order(5)
+    void sut_finds_only_annotations_of_requested_type(ThreadRecorder recorder) {
+        assertSame(Thread.currentThread(), recorder.thread);
+        repetitions++;
+    }
+
+    @Test
+    @Order(6)
+    void verify_sut_finds_only_annotations_of_requested_type() {
+        assertThat(repetitions).isEqualTo(2);
+    }
+}
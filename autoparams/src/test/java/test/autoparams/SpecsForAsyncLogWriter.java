@@ -0,0 +1,283 @@
+package test.autoparams;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import autoparams.AsyncLogWriter;
+import autoparams.AsyncLogWriter.OverflowPolicy;
+import autoparams.ResolutionContext;
+import autoparams.generator.ObjectContainer;
+import autoparams.generator.ObjectGenerator;
+import autoparams.processor.ObjectProcessor;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpecsForAsyncLogWriter {
+
+    public static class Leaf {
+    }
+
+    public static class Branch {
+
+        public Branch(Leaf first, Leaf second) {
+        }
+    }
+
+    public static class Counter {
+
+        private int value;
+
+        public void increment() {
+            value++;
+        }
+
+        @Override
+        public String toString() {
+            return "Counter " + value;
+        }
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void sut_has_guard_clause_for_delegate() {
+        assertThatThrownBy(() -> new AsyncLogWriter(null))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("delegate");
+    }
+
+    @Test
+    void sut_has_guard_clause_for_capacity() {
+        assertThatThrownBy(() -> new AsyncLogWriter(m -> { }, 0, OverflowPolicy.BLOCK))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("capacity");
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void sut_has_guard_clause_for_overflowPolicy() {
+        assertThatThrownBy(() -> new AsyncLogWriter(m -> { }, 1, null))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("overflowPolicy");
+    }
+
+    @Test
+    void sut_writes_messages_in_order_on_background_thread()
+        throws InterruptedException {
+
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        try (AsyncLogWriter sut = new AsyncLogWriter(message -> {
+            messages.add(message);
+            threads.add(Thread.currentThread());
+        })) {
+            sut.write("first");
+            sut.write("second");
+            sut.write("third");
+            sut.flush();
+        }
+
+        assertThat(messages).containsExactly("first", "second", "third");
+        assertThat(threads.contains(Thread.currentThread())).isFalse();
+    }
+
+    @Test
+    void sut_drops_messages_when_buffer_is_full_with_drop_policy()
+        throws InterruptedException {
+
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        AsyncLogWriter sut = new AsyncLogWriter(
+            message -> {
+                writing.countDown();
+                await(release);
+                messages.add(message);
+            },
+            1,
+            OverflowPolicy.DROP
+        );
+
+        sut.write("first");
+        assertThat(writing.await(10, TimeUnit.SECONDS)).isTrue();
+        sut.write("second");
+        sut.write("third");
+        release.countDown();
+        sut.close();
+
+        assertThat(sut.getDroppedCount()).isEqualTo(1);
+        assertThat(messages).containsExactly("first", "second");
+    }
+
+    @Test
+    void sut_writes_pending_messages_when_closed() {
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        AsyncLogWriter sut = new AsyncLogWriter(messages::add);
+        for (int i = 0; i < 100; i++) {
+            sut.write("message " + i);
+        }
+
+        sut.close();
+
+        assertThat(messages).hasSize(100);
+    }
+
+    @Test
+    void sut_writes_messages_on_calling_thread_after_closed() {
+        List<String> messages = new ArrayList<>();
+        AsyncLogWriter sut = new AsyncLogWriter(messages::add);
+        sut.close();
+
+        sut.write("message");
+
+        assertThat(messages).containsExactly("message");
+    }
+
+    @Test
+    void context_formats_resolution_logs_on_background_thread()
+        throws InterruptedException {
+
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        try (AsyncLogWriter logWriter = new AsyncLogWriter(message -> {
+            messages.add(message);
+            threads.add(Thread.currentThread());
+        })) {
+            ResolutionContext context = new ResolutionContext(
+                ObjectGenerator.DEFAULT,
+                ObjectProcessor.DEFAULT,
+                logWriter
+            );
+            context.enableLogging();
+
+            context.resolve(Branch.class);
+            logWriter.flush();
+        }
+
+        assertThat(messages).hasSize(3);
+        assertThat(messages.get(0)).startsWith("Branch");
+        assertThat(threads.contains(Thread.currentThread())).isFalse();
+    }
+
+    @Test
+    void context_logs_values_as_they_are_when_resolution_completes()
+        throws InterruptedException {
+
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch release = new CountDownLatch(1);
+        try (AsyncLogWriter logWriter = new AsyncLogWriter(message -> {
+            await(release);
+            messages.add(message);
+        })) {
+            ResolutionContext context = new ResolutionContext(
+                ObjectGenerator.DEFAULT,
+                ObjectProcessor.DEFAULT,
+                logWriter
+            );
+            context.applyCustomizer((query, c) -> query.getType() == Counter.class
+                ? new ObjectContainer(new Counter())
+                : ObjectContainer.EMPTY
+            );
+            context.enableLogging();
+            logWriter.write("first");
+
+            Counter counter = context.resolve(Counter.class);
+            counter.increment();
+            release.countDown();
+            logWriter.flush();
+        }
+
+        assertThat(messages).hasSize(2);
+        assertThat(messages.get(1)).contains("Counter 0");
+    }
+
+    @Test
+    void sut_counts_messages_that_delegate_failed_to_write()
+        throws InterruptedException {
+
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        try (AsyncLogWriter sut = new AsyncLogWriter(message -> {
+            if (message.equals("second")) {
+                throw new IllegalStateException();
+            }
+
+            messages.add(message);
+        })) {
+            sut.write("first");
+            sut.write("second");
+            sut.write("third");
+            sut.flush();
+
+            assertThat(sut.getFailedCount()).isEqualTo(1);
+        }
+
+        assertThat(messages).containsExactly("first", "third");
+    }
+
+    @Test
+    void sut_keeps_writing_after_delegate_throws_error()
+        throws InterruptedException {
+
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        try (AsyncLogWriter sut = new AsyncLogWriter(
+            message -> {
+                if (message.equals("first")) {
+                    throw new AssertionError();
+                }
+
+                messages.add(message);
+            },
+            1,
+            OverflowPolicy.BLOCK
+        )) {
+            sut.write("first");
+            sut.write("second");
+            sut.write("third");
+            sut.flush();
+
+            assertThat(sut.getFailedCount()).isEqualTo(1);
+        }
+
+        assertThat(messages).containsExactly("second", "third");
+    }
+
+    @Test
+    void sut_writes_messages_written_while_closing()
+        throws InterruptedException {
+
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        AsyncLogWriter sut = new AsyncLogWriter(messages::add);
+        CountDownLatch started = new CountDownLatch(4);
+        List<Thread> writers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread writer = new Thread(() -> {
+                started.countDown();
+                for (int j = 0; j < 1000; j++) {
+                    sut.write("message");
+                }
+            });
+            writer.start();
+            writers.add(writer);
+        }
+
+        started.await(10, TimeUnit.SECONDS);
+        sut.close();
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        assertThat(messages).hasSize(4000);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
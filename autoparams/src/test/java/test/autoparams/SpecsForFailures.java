@@ -59,4 +59,21 @@ class SpecsForFailures {
             .isInstanceOf(RuntimeException.class)
             .hasMessageContaining("java.lang.Cloneable");
     }
+
+    public static class ThrowingConstructor {
+
+        public ThrowingConstructor() {
+            throw new IllegalStateException("constructor failure");
+        }
+    }
+
+    @ParameterizedTest(name = ParameterizedTest.DISPLAY_NAME_PLACEHOLDER)
+    @AutoSource
+    void sut_throws_with_exception_thrown_by_constructor_as_root_cause(
+        Factory<ThrowingConstructor> factory
+    ) {
+        assertThatThrownBy(factory::get)
+            .isInstanceOf(RuntimeException.class)
+            .hasRootCauseInstanceOf(IllegalStateException.class);
+    }
 }
@@ -0,0 +1,130 @@
+package test.autoparams;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import autoparams.AutoArgumentsProvider;
+import autoparams.AutoSource;
+import autoparams.CsvAutoSource;
+import autoparams.Prefetch;
+import autoparams.Repeat;
+import autoparams.customization.Customization;
+import autoparams.customization.Freeze;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class SpecsForPrefetch {
+
+    private static final List<Integer> seededValues = new ArrayList<>();
+    private static final Set<String> frozenValues = new HashSet<>();
+    private static final List<Integer> assets = new ArrayList<>();
+
+    public static class ThreadRecorder {
+
+        private final Thread thread = Thread.currentThread();
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    @Repeat(3)
+    @Prefetch
+    @Order(1)
+    void sut_generates_arguments_on_worker_thread(ThreadRecorder recorder) {
+        assertNotSame(Thread.currentThread(), recorder.thread);
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    @Repeat(3)
+    @Prefetch
+    @Customization(SpecsForRepeat.FixedSeed.class)
+    @Order(2)
+    void sut_creates_services_for_each_repetition(int value) {
+        seededValues.add(value);
+    }
+
+    @Test
+    @Order(3)
+    void verify_sut_creates_services_for_each_repetition() {
+        assertThat(seededValues).hasSize(3);
+        assertThat(new HashSet<>(seededValues)).hasSize(1);
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    @Repeat(3)
+    @Prefetch
+    @Order(4)
+    void sut_isolates_frozen_arguments_of_each_repetition(
+        @Freeze String value,
+        String other
+    ) {
+        assertEquals(value, other);
+        frozenValues.add(value);
+    }
+
+    @Test
+    @Order(5)
+    void verify_sut_isolates_frozen_arguments_of_each_repetition() {
+        assertThat(frozenValues).hasSize(3);
+    }
+
+    @ParameterizedTest
+    @CsvAutoSource({ "1", "2", "3" })
+    @Repeat(2)
+    @Prefetch(1)
+    @Order(6)
+    void sut_preserves_order_of_test_cases(int asset, String value) {
+        assertThat(value).isNotNull();
+        assets.add(asset);
+    }
+
+    @Test
+    @Order(7)
+    void verify_sut_preserves_order_of_test_cases() {
+        assertThat(assets).containsExactly(1, 1, 2, 2, 3, 3);
+    }
+
+    @SuppressWarnings("unused")
+    @Repeat(10)
+    @Prefetch(1)
+    void prefetched(String value) {
+    }
+
+    @Test
+    @Order(8)
+    void sut_stops_worker_blocked_on_full_buffer_when_stream_is_closed()
+        throws Exception {
+
+        Method method = SpecsForPrefetch.class
+            .getDeclaredMethod("prefetched", String.class);
+        ExtensionContext context = mock(ExtensionContext.class);
+        when(context.getRequiredTestMethod()).thenReturn(method);
+        Stream<? extends Arguments> stream =
+            new AutoArgumentsProvider().provideArguments(context);
+        Iterator<? extends Arguments> iterator = stream.iterator();
+        iterator.next();
+        Thread.sleep(100);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), stream::close);
+    }
+}
@@ -0,0 +1,191 @@
+package test.autoparams;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import autoparams.DefaultObjectQuery;
+import autoparams.ObjectQuery;
+import autoparams.ResolutionContext;
+import autoparams.customization.RecursionGuard;
+import autoparams.generator.DoubleValueGenerator;
+import autoparams.generator.IntValueGenerator;
+import autoparams.generator.LongValueGenerator;
+import autoparams.generator.ObjectContainer;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpecsForPrimitiveResolution {
+
+    public static class UnboxedIntGenerator implements IntValueGenerator {
+
+        @Override
+        public int generateInt(ObjectQuery query, ResolutionContext context) {
+            return 42;
+        }
+
+        @Override
+        public ObjectContainer generate(
+            ObjectQuery query,
+            ResolutionContext context
+        ) {
+            throw new AssertionError("The value is generated with boxing.");
+        }
+    }
+
+    public static class Point {
+
+        private final int x;
+        private final long y;
+        private final double z;
+
+        public Point(int x, long y, double z) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        public int getX() {
+            return x;
+        }
+
+        public long getY() {
+            return y;
+        }
+
+        public double getZ() {
+            return z;
+        }
+    }
+
+    @Test
+    void resolveInt_returns_value_in_default_range() {
+        ResolutionContext sut = new ResolutionContext();
+        for (int i = 0; i < 100; i++) {
+            assertThat(sut.resolveInt()).isBetween(1, Short.MAX_VALUE + 1);
+        }
+    }
+
+    @Test
+    void resolveLong_returns_value_in_default_range() {
+        ResolutionContext sut = new ResolutionContext();
+        for (int i = 0; i < 100; i++) {
+            assertThat(sut.resolveLong()).isBetween(1L, Short.MAX_VALUE + 1L);
+        }
+    }
+
+    @Test
+    void resolveDouble_returns_value_in_default_range() {
+        ResolutionContext sut = new ResolutionContext();
+        for (int i = 0; i < 100; i++) {
+            assertThat(sut.resolveDouble()).isBetween(0.0, 1.0);
+        }
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void resolveInt_has_guard_clause_for_query() {
+        ResolutionContext sut = new ResolutionContext();
+        assertThatThrownBy(() -> sut.resolveInt(null))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("query");
+    }
+
+    @Test
+    void resolveInt_generates_value_without_boxing() {
+        ResolutionContext sut = new ResolutionContext();
+        sut.applyCustomizer(new UnboxedIntGenerator());
+
+        int actual = sut.resolveInt();
+
+        assertThat(actual).isEqualTo(42);
+    }
+
+    @Test
+    void resolveInt_looks_through_recursion_guard() {
+        ResolutionContext sut = new ResolutionContext();
+        sut.applyCustomizer(new UnboxedIntGenerator());
+        sut.applyCustomizer(new RecursionGuard());
+
+        int actual = sut.resolveInt();
+
+        assertThat(actual).isEqualTo(42);
+    }
+
+    @Test
+    void resolveInt_respects_generator_that_supports_all_types() {
+        ResolutionContext sut = new ResolutionContext();
+        sut.applyCustomizer(new UnboxedIntGenerator());
+        sut.applyCustomizer((query, context) -> query.getType() == int.class
+            ? new ObjectContainer(7)
+            : ObjectContainer.EMPTY);
+
+        int actual = sut.resolveInt();
+
+        assertThat(actual).isEqualTo(7);
+    }
+
+    @Test
+    void resolveInt_applies_object_processor() {
+        List<Object> processed = new ArrayList<>();
+        ResolutionContext sut = new ResolutionContext();
+        sut.applyCustomizer((query, value, context) -> {
+            if (query.getType() == int.class) {
+                processed.add(value);
+            }
+        });
+
+        int actual = sut.resolveInt();
+
+        assertThat(processed).containsExactly(actual);
+    }
+
+    @Test
+    void resolveInt_returns_boxed_result_for_non_primitive_query() {
+        ResolutionContext sut = new ResolutionContext();
+        sut.applyCustomizer((IntValueGenerator) (query, context) -> 42);
+
+        int actual = sut.resolveInt(new DefaultObjectQuery(Integer.class));
+
+        assertThat(actual).isEqualTo(42);
+    }
+
+    @Test
+    void sut_fills_primitive_arrays_without_boxing() {
+        ResolutionContext sut = new ResolutionContext();
+        sut.applyCustomizer(new UnboxedIntGenerator());
+
+        int[] actual = sut.resolve(int[].class);
+
+        assertThat(actual).isNotEmpty();
+        for (int value : actual) {
+            assertThat(value).isEqualTo(42);
+        }
+    }
+
+    @Test
+    void sut_fills_primitive_streams_without_boxing() {
+        ResolutionContext sut = new ResolutionContext();
+        sut.applyCustomizer(new UnboxedIntGenerator());
+
+        IntStream actual = sut.resolve(IntStream.class);
+
+        assertThat(actual.allMatch(value -> value == 42)).isTrue();
+    }
+
+    @Test
+    void sut_resolves_primitive_constructor_arguments_without_boxing() {
+        ResolutionContext sut = new ResolutionContext();
+        sut.applyCustomizer(new UnboxedIntGenerator());
+        sut.applyCustomizer((LongValueGenerator) (query, context) -> 43L);
+        sut.applyCustomizer((DoubleValueGenerator) (query, context) -> 0.5);
+
+        Point actual = sut.resolve(Point.class);
+
+        assertThat(actual.getX()).isEqualTo(42);
+        assertThat(actual.getY()).isEqualTo(43L);
+        assertThat(actual.getZ()).isEqualTo(0.5);
+    }
+}
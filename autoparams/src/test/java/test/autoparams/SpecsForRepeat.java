@@ -1,13 +1,25 @@
 package test.autoparams;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import autoparams.AutoSource;
 import autoparams.Repeat;
+import autoparams.customization.Customization;
+import autoparams.customization.Customizer;
+import autoparams.customization.Freeze;
+import autoparams.generator.ObjectContainer;
+import autoparams.generator.ObjectGenerator;
+import autoparams.generator.RandomSourceProvider;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.params.ParameterizedTest;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -15,6 +27,10 @@ class SpecsForRepeat {
 
     private static int shouldBe10 = 0;
     private static int shouldBe3 = 0;
+    private static final List<Integer> seededValues = new ArrayList<>();
+    private static final Set<String> frozenValues = new HashSet<>();
+    private static int invocations = 0;
+    private static final List<Integer> sequenceValues = new ArrayList<>();
 
     @ParameterizedTest
     @AutoSource
@@ -43,4 +59,93 @@ class SpecsForRepeat {
     void verify_sut_has_default_value() {
         assertEquals(3, shouldBe3);
     }
+
+    public static class FixedSeed implements Customizer {
+
+        @Override
+        public ObjectGenerator customize(ObjectGenerator generator) {
+            return new RandomSourceProvider(42).customize(generator);
+        }
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    @Repeat(3)
+    @Customization(FixedSeed.class)
+    @Order(5)
+    void sut_creates_services_for_each_repetition(int value) {
+        seededValues.add(value);
+    }
+
+    @Test
+    @Order(6)
+    void verify_sut_creates_services_for_each_repetition() {
+        assertThat(seededValues).hasSize(3);
+        assertThat(new HashSet<>(seededValues)).hasSize(1);
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    @Repeat(3)
+    @Order(7)
+    void sut_isolates_frozen_arguments_of_each_repetition(
+        @Freeze String value,
+        String other
+    ) {
+        assertEquals(value, other);
+        frozenValues.add(value);
+    }
+
+    @Test
+    @Order(8)
+    void verify_sut_isolates_frozen_arguments_of_each_repetition() {
+        assertThat(frozenValues).hasSize(3);
+    }
+
+    public static class Tracked {
+
+        private static int instances = 0;
+
+        public Tracked() {
+            instances++;
+        }
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    @Repeat(5)
+    @Order(9)
+    void sut_generates_arguments_lazily(
+        @SuppressWarnings("unused") Tracked tracked
+    ) {
+        invocations++;
+        assertEquals(invocations, Tracked.instances);
+    }
+
+    public static class Sequence implements Customizer {
+
+        private int next = 0;
+
+        @Override
+        public ObjectGenerator customize(ObjectGenerator generator) {
+            return (query, context) -> query.getType() == int.class
+                ? new ObjectContainer(++next)
+                : generator.generate(query, context);
+        }
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    @Repeat(3)
+    @Customization(Sequence.class)
+    @Order(10)
+    void sut_creates_customizers_for_each_repetition(int value) {
+        sequenceValues.add(value);
+    }
+
+    @Test
+    @Order(11)
+    void verify_sut_creates_customizers_for_each_repetition() {
+        assertThat(sequenceValues).containsExactly(1, 1, 1);
+    }
 }
@@ -1,7 +1,11 @@
 package test.autoparams;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import autoparams.AutoParams;
 import autoparams.AutoSource;
@@ -9,6 +13,8 @@ import autoparams.ObjectQuery;
 import autoparams.ResolutionContext;
 import autoparams.customization.Customizer;
 import autoparams.customization.Freeze;
+import autoparams.generator.ConstructorExtractor;
+import autoparams.generator.ConstructorResolver;
 import autoparams.generator.ObjectContainer;
 import autoparams.generator.ObjectGenerator;
 import autoparams.generator.ObjectGeneratorBase;
@@ -17,6 +23,7 @@ import autoparams.type.TypeReference;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -195,4 +202,141 @@ class SpecsForResolutionContext {
 
         assertThat(actual.getValues()).isSameAs(values);
     }
+
+    @ParameterizedTest
+    @AutoSource
+    void memoize_returns_same_value_for_same_key(ResolutionContext sut) {
+        Object key = new Object();
+        Object value = sut.memoize(key, Object::new);
+
+        Object actual = sut.memoize(key, Object::new);
+
+        assertThat(actual).isSameAs(value);
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    void memoize_discards_values_when_generator_is_customized(
+        ResolutionContext sut
+    ) {
+        Object key = new Object();
+        Object value = sut.memoize(key, Object::new);
+
+        sut.applyCustomizer((query, context) -> ObjectContainer.EMPTY);
+
+        Object actual = sut.memoize(key, Object::new);
+        assertThat(actual).isNotSameAs(value);
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    void memoize_keeps_values_when_only_processor_is_customized(
+        ResolutionContext sut
+    ) {
+        Object key = new Object();
+        Object value = sut.memoize(key, Object::new);
+
+        sut.applyCustomizer((ObjectProcessor) (query, instance, context) -> { });
+
+        Object actual = sut.memoize(key, Object::new);
+        assertThat(actual).isSameAs(value);
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    void branch_shares_memoized_values_until_generator_is_customized(
+        ResolutionContext sut
+    ) {
+        Object key = new Object();
+        Object value = sut.memoize(key, Object::new);
+
+        ResolutionContext branch = sut.branch();
+        ResolutionContext customized = sut.branch(
+            (ObjectGenerator) (query, context) -> ObjectContainer.EMPTY
+        );
+
+        assertThat(branch.memoize(key, Object::new)).isSameAs(value);
+        assertThat(customized.memoize(key, Object::new)).isNotSameAs(value);
+    }
+
+    public static class StringConstructorResolverGenerator
+        extends ObjectGeneratorBase<ConstructorResolver> {
+
+        @Override
+        protected ConstructorResolver generateObject(
+            ObjectQuery query,
+            ResolutionContext context
+        ) {
+            return type -> Arrays
+                .stream(type.getConstructors())
+                .filter(constructor -> constructor.getParameterCount() == 1)
+                .findFirst();
+        }
+    }
+
+    @Test
+    void resolve_uses_constructor_resolver_customized_after_first_resolution() {
+        ResolutionContext sut = new ResolutionContext();
+        HasMultipleConstructors first = sut.resolve();
+
+        sut.applyCustomizer(new StringConstructorResolverGenerator());
+
+        HasMultipleConstructors second = sut.resolve();
+        assertThat(first.getValue()).isNull();
+        assertThat(second.getValue()).isNotNull();
+    }
+
+    @Test
+    void resolve_reuses_service_objects() {
+        ResolutionContext sut = new ResolutionContext();
+
+        ConstructorExtractor first = sut.resolve();
+        ConstructorExtractor second = sut.resolve();
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void resolve_regenerates_service_objects_after_generator_is_customized() {
+        ResolutionContext sut = new ResolutionContext();
+        ConstructorResolver first = sut.resolve();
+
+        sut.applyCustomizer(new StringConstructorResolverGenerator());
+
+        ConstructorResolver second = sut.resolve();
+        assertThat(second).isNotSameAs(first);
+    }
+
+    @Test
+    void resolve_supports_concurrent_calls_on_shared_context() {
+        ResolutionContext sut = new ResolutionContext();
+
+        List<ComplexObject> actual = IntStream
+            .range(0, 64)
+            .parallel()
+            .mapToObj(i -> sut.resolve(ComplexObject.class))
+            .collect(toList());
+
+        assertThat(actual).hasSize(64).doesNotContainNull();
+        assertThat(actual).allMatch(x -> x.getValue2() != null);
+    }
+
+    @Test
+    void resolve_writes_one_log_tree_per_concurrent_call() {
+        List<String> lines = Collections.synchronizedList(new ArrayList<>());
+        ResolutionContext sut = new ResolutionContext(
+            ObjectGenerator.DEFAULT,
+            ObjectProcessor.DEFAULT,
+            lines::add
+        );
+        sut.enableLogging();
+
+        IntStream
+            .range(0, 16)
+            .parallel()
+            .forEach(i -> sut.resolve(ComplexObject.class));
+
+        long roots = lines.stream().filter(line -> !line.startsWith(" ")).count();
+        assertThat(roots).isEqualTo(16);
+    }
 }
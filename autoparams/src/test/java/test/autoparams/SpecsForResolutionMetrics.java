@@ -0,0 +1,205 @@
+package test.autoparams;
+
+import autoparams.InMemoryResolutionMetrics;
+import autoparams.ObjectQuery;
+import autoparams.ResolutionContext;
+import autoparams.ResolutionMetrics;
+import autoparams.ResolutionMetricsSnapshot;
+import autoparams.customization.RecursionGuard;
+import autoparams.generator.CompositeObjectGenerator;
+import autoparams.generator.ObjectContainer;
+import autoparams.generator.ObjectGenerator;
+import autoparams.generator.ObjectGeneratorBase;
+import autoparams.generator.RandomSource;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpecsForResolutionMetrics {
+
+    public static class Leaf {
+    }
+
+    public static class Branch {
+
+        public Branch(Leaf first, Leaf second) {
+        }
+    }
+
+    public static class Node {
+
+        private final Node next;
+
+        public Node(Node next) {
+            this.next = next;
+        }
+
+        public Node getNext() {
+            return next;
+        }
+    }
+
+    public static class LeafGenerator extends ObjectGeneratorBase<Leaf> {
+
+        @Override
+        protected Leaf generateObject(
+            ObjectQuery query,
+            ResolutionContext context
+        ) {
+            return new Leaf();
+        }
+    }
+
+    public static class SkippingLeafGenerator implements ObjectGenerator {
+
+        @Override
+        public ObjectContainer generate(
+            ObjectQuery query,
+            ResolutionContext context
+        ) {
+            return ObjectContainer.EMPTY;
+        }
+
+        @Override
+        public boolean supports(Class<?> rawType) {
+            return rawType == Leaf.class;
+        }
+    }
+
+    @Test
+    void metrics_is_none_by_default() {
+        ResolutionContext sut = new ResolutionContext();
+        assertThat(sut.getMetrics()).isSameAs(ResolutionMetrics.NONE);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void setMetrics_has_guard_clause_for_metrics() {
+        ResolutionContext sut = new ResolutionContext();
+        assertThatThrownBy(() -> sut.setMetrics(null))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("metrics");
+    }
+
+    @Test
+    void metrics_counts_resolutions_by_type() {
+        InMemoryResolutionMetrics metrics = new InMemoryResolutionMetrics();
+        ResolutionContext sut = new ResolutionContext();
+        sut.setMetrics(metrics);
+
+        sut.resolve(Branch.class);
+        sut.resolve(Branch.class);
+
+        ResolutionMetricsSnapshot actual = metrics.snapshot();
+        assertThat(actual.getResolutions().get(Branch.class)).isEqualTo(2L);
+        assertThat(actual.getResolutions().get(Leaf.class)).isEqualTo(4L);
+    }
+
+    @Test
+    void metrics_counts_only_first_resolution_of_service() {
+        InMemoryResolutionMetrics metrics = new InMemoryResolutionMetrics();
+        ResolutionContext sut = new ResolutionContext();
+        sut.setMetrics(metrics);
+
+        sut.resolve(String.class);
+        sut.resolve(String.class);
+
+        ResolutionMetricsSnapshot actual = metrics.snapshot();
+        assertThat(actual.getResolutions().get(RandomSource.class)).isEqualTo(1L);
+    }
+
+    @Test
+    void metrics_counts_generator_hits_and_misses() {
+        InMemoryResolutionMetrics metrics = new InMemoryResolutionMetrics();
+        ResolutionContext sut = new ResolutionContext();
+        sut.applyCustomizer(new LeafGenerator());
+        sut.applyCustomizer(new SkippingLeafGenerator());
+        sut.setMetrics(metrics);
+
+        sut.resolve(Branch.class);
+
+        ResolutionMetricsSnapshot actual = metrics.snapshot();
+        assertThat(actual.getGeneratorHits().get(LeafGenerator.class))
+            .isEqualTo(2L);
+        assertThat(actual.getGeneratorMisses().get(SkippingLeafGenerator.class))
+            .isEqualTo(2L);
+    }
+
+    @Test
+    void metrics_counts_only_leaf_generators_of_nested_composites() {
+        InMemoryResolutionMetrics metrics = new InMemoryResolutionMetrics();
+        ResolutionContext sut = new ResolutionContext();
+        sut.applyCustomizer(new CompositeObjectGenerator(
+            new CompositeObjectGenerator(new LeafGenerator())
+        ));
+        sut.applyCustomizer(new RecursionGuard());
+        sut.setMetrics(metrics);
+
+        sut.resolve(Leaf.class);
+
+        ResolutionMetricsSnapshot actual = metrics.snapshot();
+        assertThat(actual.getGeneratorHits().get(LeafGenerator.class))
+            .isEqualTo(1L);
+        assertThat(actual.getGeneratorHits()).hasSize(1);
+        assertThat(actual.getGeneratorMisses()).isEmpty();
+    }
+
+    @Test
+    void metrics_counts_recursion_truncations() {
+        InMemoryResolutionMetrics metrics = new InMemoryResolutionMetrics();
+        ResolutionContext sut = new ResolutionContext();
+        sut.applyCustomizer(new RecursionGuard(2));
+        sut.setMetrics(metrics);
+
+        Node node = sut.resolve(Node.class);
+
+        assertThat(node.getNext().getNext()).isNull();
+        ResolutionMetricsSnapshot actual = metrics.snapshot();
+        assertThat(actual.getRecursionTruncations().get(Node.class))
+            .isEqualTo(1L);
+    }
+
+    @Test
+    void metrics_counts_construction_plan_cache_lookups() {
+        InMemoryResolutionMetrics metrics = new InMemoryResolutionMetrics();
+        ResolutionContext sut = new ResolutionContext();
+        sut.setMetrics(metrics);
+
+        sut.resolve(Leaf.class);
+        sut.resolve(Leaf.class);
+        sut.resolve(Leaf.class);
+        sut.resolve(Leaf.class);
+
+        ResolutionMetricsSnapshot actual = metrics.snapshot();
+        assertThat(actual.getConstructionPlanMisses()).isEqualTo(1L);
+        assertThat(actual.getConstructionPlanHits()).isEqualTo(3L);
+        assertThat(actual.getConstructionPlanHitRatio()).isEqualTo(0.75);
+    }
+
+    @Test
+    void snapshot_does_not_change_after_more_resolutions() {
+        InMemoryResolutionMetrics metrics = new InMemoryResolutionMetrics();
+        ResolutionContext sut = new ResolutionContext();
+        sut.setMetrics(metrics);
+        sut.resolve(Leaf.class);
+
+        ResolutionMetricsSnapshot actual = metrics.snapshot();
+        sut.resolve(Leaf.class);
+
+        assertThat(actual.getResolutions().get(Leaf.class)).isEqualTo(1L);
+    }
+
+    @Test
+    void branched_context_reports_to_same_metrics() {
+        InMemoryResolutionMetrics metrics = new InMemoryResolutionMetrics();
+        ResolutionContext context = new ResolutionContext();
+        context.setMetrics(metrics);
+
+        ResolutionContext sut = context.branch();
+        sut.resolve(Leaf.class);
+
+        assertThat(metrics.snapshot().getResolutions().get(Leaf.class))
+            .isEqualTo(1L);
+    }
+}
@@ -0,0 +1,145 @@
+package test.autoparams;
+
+import java.util.List;
+import java.util.Optional;
+
+import autoparams.ObjectQuery;
+import autoparams.ResolutionContext;
+import autoparams.ResolutionPath;
+import autoparams.ResolutionProfile;
+import autoparams.ResolutionStatistics;
+import autoparams.generator.ObjectGeneratorBase;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpecsForResolutionProfile {
+
+    public static class Leaf {
+    }
+
+    public static class Branch {
+
+        public Branch(Leaf first, Leaf second) {
+        }
+    }
+
+    public static class LeafGenerator extends ObjectGeneratorBase<Leaf> {
+
+        @Override
+        protected Leaf generateObject(
+            ObjectQuery query,
+            ResolutionContext context
+        ) {
+            return new Leaf();
+        }
+    }
+
+    private static ResolutionStatistics find(
+        List<ResolutionStatistics> statistics,
+        String name
+    ) {
+        Optional<ResolutionStatistics> result = statistics
+            .stream()
+            .filter(s -> s.getName().equals(name))
+            .findFirst();
+        assertThat(result.isPresent()).isTrue();
+        return result.get();
+    }
+
+    @Test
+    void profile_is_empty_if_profiling_is_not_enabled() {
+        ResolutionContext sut = new ResolutionContext();
+        sut.resolve(Branch.class);
+
+        ResolutionProfile actual = sut.getProfile();
+
+        assertThat(actual.getTypeStatistics()).isEmpty();
+        assertThat(actual.getGeneratorStatistics()).isEmpty();
+        assertThat(actual.getSlowestPaths()).isEmpty();
+    }
+
+    @Test
+    void profile_counts_resolutions_by_type() {
+        ResolutionContext sut = new ResolutionContext();
+        sut.enableProfiling();
+
+        sut.resolve(Branch.class);
+        sut.resolve(Branch.class);
+
+        List<ResolutionStatistics> statistics =
+            sut.getProfile().getTypeStatistics();
+        assertThat(find(statistics, "Branch").getCount()).isEqualTo(2);
+        assertThat(find(statistics, "Leaf").getCount()).isEqualTo(4);
+    }
+
+    @Test
+    void self_time_excludes_nested_resolutions() {
+        ResolutionContext sut = new ResolutionContext();
+        sut.enableProfiling();
+
+        sut.resolve(Branch.class);
+
+        ResolutionStatistics actual =
+            find(sut.getProfile().getTypeStatistics(), "Branch");
+        assertThat(actual.getSelfNanos())
+            .isLessThanOrEqualTo(actual.getTotalNanos());
+        assertThat(actual.getMaxNanos()).isEqualTo(actual.getTotalNanos());
+    }
+
+    @Test
+    void profile_counts_resolutions_by_generator() {
+        ResolutionContext sut = new ResolutionContext();
+        sut.applyCustomizer(new LeafGenerator());
+        sut.enableProfiling();
+
+        sut.resolve(Branch.class);
+
+        List<ResolutionStatistics> statistics =
+            sut.getProfile().getGeneratorStatistics();
+        String name = LeafGenerator.class.getName();
+        assertThat(find(statistics, name).getCount()).isEqualTo(2);
+    }
+
+    @Test
+    void slowest_paths_start_with_root_type() {
+        ResolutionContext sut = new ResolutionContext();
+        sut.enableProfiling();
+
+        sut.resolve(Branch.class);
+
+        List<ResolutionPath> actual = sut.getProfile().getSlowestPaths();
+        assertThat(actual).isNotEmpty();
+        for (ResolutionPath path : actual) {
+            assertThat(path.getTypes().get(0)).isEqualTo("Branch");
+        }
+        for (int i = 1; i < actual.size(); i++) {
+            long previous = actual.get(i - 1).getSelfNanos();
+            assertThat(actual.get(i).getSelfNanos())
+                .isLessThanOrEqualTo(previous);
+        }
+    }
+
+    @Test
+    void report_lists_statistics_in_specified_order() {
+        ResolutionContext sut = new ResolutionContext();
+        sut.enableProfiling();
+        sut.resolve(Branch.class);
+
+        String actual = sut.getProfile().report(ResolutionStatistics.BY_COUNT);
+
+        assertThat(actual.indexOf("Leaf count=2"))
+            .isGreaterThanOrEqualTo(0)
+            .isLessThan(actual.indexOf("Branch count=1"));
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void report_has_guard_clause_for_order() {
+        ResolutionProfile sut = new ResolutionContext().getProfile();
+        assertThatThrownBy(() -> sut.report(null))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("order");
+    }
+}
@@ -65,6 +65,19 @@ class SpecsForSimpleTypes {
         assertNotEquals(value3, value1);
     }
 
+    @AutoParameterizedTest
+    void sut_creates_version_4_uuid_values(UUID value) {
+        assertThat(value.version()).isEqualTo(4);
+        assertThat(value.variant()).isEqualTo(2);
+    }
+
+    @AutoParameterizedTest
+    void sut_creates_string_values_in_canonical_uuid_format(String value) {
+        UUID uuid = UUID.fromString(value);
+        assertThat(uuid.toString()).isEqualTo(value);
+        assertThat(uuid.version()).isEqualTo(4);
+    }
+
     @AutoParameterizedTest
     void sut_creates_arbitrary_big_integer_values(
         BigInteger value1,
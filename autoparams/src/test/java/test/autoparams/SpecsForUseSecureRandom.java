@@ -0,0 +1,45 @@
+package test.autoparams;
+
+import java.util.UUID;
+
+import autoparams.AutoSource;
+import autoparams.ResolutionContext;
+import autoparams.generator.RandomSource;
+import autoparams.generator.UseSecureRandom;
+import org.junit.jupiter.params.ParameterizedTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SpecsForUseSecureRandom {
+
+    @ParameterizedTest
+    @AutoSource
+    @UseSecureRandom
+    void sut_provides_secure_random_source(ResolutionContext context) {
+        RandomSource actual = context.resolve(RandomSource.class);
+        assertThat(actual.getClass().getSimpleName())
+            .isEqualTo("SecureRandomSource");
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    void sut_is_not_applied_by_default(ResolutionContext context) {
+        RandomSource actual = context.resolve(RandomSource.class);
+        assertThat(actual.getClass().getSimpleName())
+            .isNotEqualTo("SecureRandomSource");
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    @UseSecureRandom
+    void sut_generates_version_4_uuid_values(UUID value) {
+        assertThat(value.version()).isEqualTo(4);
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    @UseSecureRandom
+    void sut_generates_values_within_range(int value) {
+        assertThat(value).isBetween(1, Short.MAX_VALUE + 1);
+    }
+}
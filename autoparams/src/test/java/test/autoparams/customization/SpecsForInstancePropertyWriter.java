@@ -40,4 +40,17 @@ public class SpecsForInstancePropertyWriter {
         assertThat(bag.getValue3()).isInstanceOf(HasGenericSetters.class);
         assertThat(bag.getValue3().getValue3()).isInstanceOf(HasSetter.class);
     }
+
+    @ParameterizedTest
+    @AutoSource
+    @Customization(InstancePropertyWriter.class)
+    void sut_sets_generic_properties_per_type_arguments(
+        HasGenericSetters<UUID, String> first,
+        HasGenericSetters<String, UUID> second
+    ) {
+        assertThat(first.getValue2()).isInstanceOf(UUID.class);
+        assertThat(first.getValue3()).isInstanceOf(String.class);
+        assertThat(second.getValue2()).isInstanceOf(String.class);
+        assertThat(second.getValue3()).isInstanceOf(UUID.class);
+    }
 }
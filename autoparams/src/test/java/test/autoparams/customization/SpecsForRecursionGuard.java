@@ -1,10 +1,14 @@
 package test.autoparams.customization;
 
+import java.util.List;
+import java.util.stream.IntStream;
+
 import autoparams.AutoSource;
 import autoparams.ResolutionContext;
 import autoparams.customization.RecursionGuard;
 import org.junit.jupiter.params.ParameterizedTest;
 
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class SpecsForRecursionGuard {
@@ -66,4 +70,25 @@ class SpecsForRecursionGuard {
         assertThat(actual.getFollowings()[1].getFollower()).isNotNull();
         assertThat(actual.getFollowings()[2].getFollower()).isNotNull();
     }
+
+    @ParameterizedTest
+    @AutoSource
+    void sut_counts_recursion_separately_for_concurrent_resolutions(
+        ResolutionContext context
+    ) {
+        final int recursionDepth = 2;
+        context.applyCustomizer(new RecursionGuard(recursionDepth));
+
+        final List<User> actual = IntStream
+            .range(0, 16)
+            .parallel()
+            .mapToObj(i -> context.resolve(User.class))
+            .collect(toList());
+
+        for (User user : actual) {
+            assertThat(user.getFollowings()[0].getFollower()).isNotNull();
+            assertThat(user.getFollowings()[1].getFollower()).isNotNull();
+            assertThat(user.getFollowings()[2].getFollower()).isNotNull();
+        }
+    }
 }
@@ -1,18 +1,54 @@
 package test.autoparams.generator;
 
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import autoparams.AutoSource;
 import autoparams.DefaultObjectQuery;
 import autoparams.ObjectQuery;
 import autoparams.ResolutionContext;
 import autoparams.generator.CompositeObjectGenerator;
 import autoparams.generator.ObjectContainer;
+import autoparams.generator.ObjectGenerator;
+import autoparams.type.TypeReference;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import test.autoparams.IsolatingClassLoader;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
 class SpecsForCompositeObjectGenerator {
 
+    private static class RawTypeGenerator implements ObjectGenerator {
+
+        private final Class<?> rawType;
+        private final ObjectGenerator generator;
+
+        public RawTypeGenerator(Class<?> rawType, ObjectGenerator generator) {
+            this.rawType = rawType;
+            this.generator = generator;
+        }
+
+        @Override
+        public ObjectContainer generate(
+            ObjectQuery query,
+            ResolutionContext context
+        ) {
+            return generator.generate(query, context);
+        }
+
+        @Override
+        public boolean supports(Class<?> rawType) {
+            return this.rawType.equals(rawType);
+        }
+    }
+
+    public static class Isolated {
+    }
+
     @ParameterizedTest
     @AutoSource
     void if_first_generator_succeeds_to_generate_value_sut_returns_its_result(
@@ -80,4 +116,103 @@ class SpecsForCompositeObjectGenerator {
 
         assertThatCode(() -> sut.generate(query, context)).doesNotThrowAnyException();
     }
+
+    @ParameterizedTest
+    @AutoSource
+    void sut_does_not_call_generator_that_does_not_support_query_type(
+        ResolutionContext context,
+        AtomicInteger counter,
+        Object value
+    ) {
+        ObjectQuery query = new DefaultObjectQuery(String.class);
+        CompositeObjectGenerator sut = new CompositeObjectGenerator(
+            new RawTypeGenerator(Integer.class, (q, c) -> {
+                counter.incrementAndGet();
+                return ObjectContainer.EMPTY;
+            }),
+            (q, c) -> new ObjectContainer(value)
+        );
+
+        ObjectContainer actual = sut.generate(query, context);
+
+        assertSame(value, actual.unwrapOrElseThrow());
+        assertThat(counter.get()).isZero();
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    void sut_preserves_order_of_generators_that_support_query_type(
+        ResolutionContext context,
+        Object first,
+        Object second
+    ) {
+        ObjectQuery query = new DefaultObjectQuery(String.class);
+        CompositeObjectGenerator sut = new CompositeObjectGenerator(
+            new RawTypeGenerator(Integer.class, (q, c) -> new ObjectContainer(null)),
+            new RawTypeGenerator(String.class, (q, c) -> new ObjectContainer(first)),
+            (q, c) -> new ObjectContainer(second)
+        );
+
+        ObjectContainer actual = sut.generate(query, context);
+
+        assertSame(first, actual.unwrapOrElseThrow());
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    void sut_routes_parameterized_type_query_by_raw_type(
+        ResolutionContext context,
+        Object value
+    ) {
+        ObjectQuery query = new DefaultObjectQuery(
+            new TypeReference<List<String>>() { }.getType()
+        );
+        CompositeObjectGenerator sut = new CompositeObjectGenerator(
+            new RawTypeGenerator(String.class, (q, c) -> new ObjectContainer(null)),
+            new RawTypeGenerator(List.class, (q, c) -> new ObjectContainer(value))
+        );
+
+        ObjectContainer actual = sut.generate(query, context);
+
+        assertSame(value, actual.unwrapOrElseThrow());
+    }
+
+    @Test
+    void sut_supports_raw_type_if_any_of_generators_supports_it() {
+        CompositeObjectGenerator sut = new CompositeObjectGenerator(
+            new RawTypeGenerator(Integer.class, (q, c) -> ObjectContainer.EMPTY),
+            new RawTypeGenerator(String.class, (q, c) -> ObjectContainer.EMPTY)
+        );
+
+        assertThat(sut.supports(String.class)).isTrue();
+        assertThat(sut.supports(Long.class)).isFalse();
+    }
+
+    @Test
+    void sut_does_not_keep_class_loader_of_raw_type_alive() throws Exception {
+        CompositeObjectGenerator sut = new CompositeObjectGenerator(
+            new RawTypeGenerator(String.class, (q, c) -> ObjectContainer.EMPTY)
+        );
+
+        WeakReference<ClassLoader> loader = querySupportOfIsolatedType(sut);
+
+        for (int i = 0; i < 100 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertThat(loader.get()).isNull();
+        assertThat(sut.supports(String.class)).isTrue();
+    }
+
+    private static WeakReference<ClassLoader> querySupportOfIsolatedType(
+        CompositeObjectGenerator sut
+    ) throws Exception {
+        ClassLoader loader = new IsolatingClassLoader(Isolated.class);
+        Class<?> isolated = loader.loadClass(Isolated.class.getName());
+
+        assertThat(sut.supports(isolated)).isFalse();
+
+        return new WeakReference<>(loader);
+    }
 }
@@ -1,9 +1,12 @@
 package test.autoparams.generator;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -13,6 +16,7 @@ import autoparams.ValueAutoSource;
 import autoparams.generator.Factory;
 import autoparams.generator.ObjectContainer;
 import autoparams.generator.ObjectGenerator;
+import autoparams.generator.RandomSourceProvider;
 import org.junit.jupiter.params.ParameterizedTest;
 import test.autoparams.ComplexObject;
 
@@ -112,4 +116,95 @@ public class SpecsForFactory {
 
         assertThat(actual).isNotEqualTo(fixedValue);
     }
+
+    @ParameterizedTest
+    @ValueAutoSource(ints = { 0, 1, 10, 1000 })
+    void getParallel_returns_list_of_anonymous_objects(
+        int count,
+        Factory<UUID> sut
+    ) {
+        List<UUID> list = sut.getParallel(count);
+        assertThat(list).hasSize(count).doesNotContainNull();
+        assertThat(new HashSet<>(list)).hasSize(count);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @ParameterizedTest
+    @AutoSource
+    void getParallel_returns_unmodifiable_list(Factory<Integer> sut) {
+        List<Integer> list = sut.getParallel(3);
+        assertThatThrownBy(() -> list.add(1))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    void getParallel_runs_generation_on_given_executor(
+        Factory<ComplexObject> sut
+    ) {
+        AtomicInteger tasks = new AtomicInteger();
+        Executor executor = command -> {
+            tasks.incrementAndGet();
+            new Thread(command).start();
+        };
+
+        List<ComplexObject> list = sut.getParallel(100, executor);
+
+        assertThat(list).hasSize(100).doesNotContainNull();
+        assertThat(tasks.get()).isGreaterThan(0);
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    void getParallel_applies_customizers(Factory<UUID> sut, UUID fixedValue) {
+        List<UUID> list = sut.getParallel(
+            10,
+            (ObjectGenerator) (query, context) ->
+                query.getType() == UUID.class
+                    ? new ObjectContainer(fixedValue)
+                    : ObjectContainer.EMPTY
+        );
+
+        assertThat(list).containsOnly(fixedValue);
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    void getParallel_generates_same_list_for_same_seed(long seed) {
+        Executor executor = command -> new Thread(command).start();
+
+        List<UUID> first = Factory.create(UUID.class)
+            .getParallel(1000, executor, new RandomSourceProvider(seed));
+        List<UUID> second = Factory.create(UUID.class)
+            .getParallel(1000, executor, new RandomSourceProvider(seed));
+
+        assertThat(second).isEqualTo(first);
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    void getParallel_has_guard_against_negative_count(Factory<UUID> sut) {
+        assertThatThrownBy(() -> sut.getParallel(-1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    void getParallel_rethrows_generation_failure(Factory<Cloneable> sut) {
+        assertThatThrownBy(() -> sut.getParallel(10))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("java.lang.Cloneable");
+    }
+
+    @ParameterizedTest
+    @ValueAutoSource(ints = { 10, 20, 30 })
+    void parallelStream_returns_parallel_stream_of_anonymous_objects(
+        int size,
+        Factory<UUID> sut
+    ) {
+        Stream<UUID> stream = sut.parallelStream();
+        assertThat(stream.isParallel()).isTrue();
+        Set<UUID> set = stream.limit(size).collect(Collectors.toSet());
+        assertThat(set).hasSize(size);
+    }
 }
@@ -209,4 +209,23 @@ public class SpecsForObjectGeneratorBase {
 
         assertThat(actual).isSameAs(ObjectContainer.EMPTY);
     }
+
+    @ParameterizedTest
+    @AutoSource
+    void sut_supports_raw_types_that_it_can_generate(LocalDate value) {
+        ObjectGenerator sut = new LocalDateStubbingProxy(value);
+
+        assertThat(sut.supports(LocalDate.class)).isTrue();
+        assertThat(sut.supports(Temporal.class)).isTrue();
+        assertThat(sut.supports(String.class)).isFalse();
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    void sut_supports_raw_type_of_parameterized_type(List<String> values) {
+        ObjectGenerator sut = new StringListGenerator(values);
+
+        assertThat(sut.supports(List.class)).isTrue();
+        assertThat(sut.supports(String.class)).isFalse();
+    }
 }
@@ -0,0 +1,101 @@
+package test.autoparams.generator;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import autoparams.AutoSource;
+import autoparams.generator.RandomSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SpecsForRandomSource {
+
+    @ParameterizedTest
+    @AutoSource
+    void sut_produces_same_sequence_for_same_seed(long seed) {
+        RandomSource first = RandomSource.create(seed);
+        RandomSource second = RandomSource.create(seed);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(first.nextLong()).isEqualTo(second.nextLong());
+        }
+    }
+
+    @Test
+    void sut_produces_different_sequences_for_different_seeds() {
+        RandomSource first = RandomSource.create(1);
+        RandomSource second = RandomSource.create(2);
+
+        assertThat(first.nextLong()).isNotEqualTo(second.nextLong());
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    void split_is_deterministic_for_seeded_source(long seed) {
+        RandomSource first = RandomSource.create(seed).split();
+        RandomSource second = RandomSource.create(seed).split();
+
+        assertThat(first.nextLong()).isEqualTo(second.nextLong());
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    void split_produces_sequence_different_from_source(long seed) {
+        RandomSource sut = RandomSource.create(seed);
+        RandomSource split = sut.split();
+
+        assertThat(split.nextLong()).isNotEqualTo(sut.nextLong());
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    void nextInt_returns_value_within_range(long seed) {
+        RandomSource sut = RandomSource.create(seed);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(sut.nextInt(-3, 4)).isBetween(-3, 3);
+        }
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    void nextUUID_returns_version_4_uuid(long seed) {
+        UUID actual = RandomSource.create(seed).nextUUID();
+
+        assertThat(actual.version()).isEqualTo(4);
+        assertThat(actual.variant()).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    void nextBytes_fills_array(long seed) {
+        byte[] bytes = new byte[33];
+
+        RandomSource.create(seed).nextBytes(bytes);
+
+        assertThat(bytes[32] | bytes[31] | bytes[30] | bytes[29]).isNotZero();
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    void sut_produces_independent_sequences_for_other_threads(long seed) {
+        RandomSource sut = RandomSource.create(seed);
+
+        long actual = CompletableFuture.supplyAsync(sut::nextLong).join();
+
+        assertThat(actual).isNotEqualTo(RandomSource.create(seed).nextLong());
+    }
+
+    @Test
+    void createSecure_returns_source_producing_values_within_range() {
+        RandomSource sut = RandomSource.createSecure();
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(sut.nextInt(-3, 4)).isBetween(-3, 3);
+            assertThat(sut.nextLong(-3, 4)).isBetween(-3L, 3L);
+            assertThat(sut.nextDouble(-3, 4)).isBetween(-3.0, 4.0);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package test.autoparams.generator;
+
+import java.util.UUID;
+
+import autoparams.AutoSource;
+import autoparams.ResolutionContext;
+import autoparams.generator.ObjectContainer;
+import autoparams.generator.RandomSource;
+import autoparams.generator.RandomSourceProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SpecsForRandomSourceProvider {
+
+    @ParameterizedTest
+    @AutoSource
+    void sut_returns_source_created_with_seed(
+        long seed,
+        ResolutionContext context
+    ) {
+        RandomSourceProvider sut = new RandomSourceProvider(seed);
+
+        ObjectContainer actual = sut.generate(RandomSource.class, context);
+
+        RandomSource source = (RandomSource) actual.unwrapOrElseThrow();
+        assertThat(source.nextLong())
+            .isEqualTo(RandomSource.create(seed).nextLong());
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    void sut_returns_source_created_by_factory(ResolutionContext context) {
+        RandomSource source = RandomSource.create();
+        RandomSourceProvider sut = new RandomSourceProvider(() -> source);
+
+        ObjectContainer actual = sut.generate(RandomSource.class, context);
+
+        assertThat(actual.unwrapOrElseThrow()).isSameAs(source);
+    }
+
+    @Test
+    void sut_has_guard_against_null_factory() {
+        assertThatThrownBy(() -> new RandomSourceProvider(null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("factory");
+    }
+
+    public static class Values {
+
+        private final int number;
+        private final String text;
+        private final UUID id;
+
+        public Values(int number, String text, UUID id) {
+            this.number = number;
+            this.text = text;
+            this.id = id;
+        }
+
+        @Override
+        public String toString() {
+            return number + ":" + text + ":" + id;
+        }
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    void sut_makes_generated_values_reproducible(long seed) {
+        ResolutionContext first = new ResolutionContext();
+        first.applyCustomizer(new RandomSourceProvider(seed));
+        ResolutionContext second = new ResolutionContext();
+        second.applyCustomizer(new RandomSourceProvider(seed));
+
+        for (int i = 0; i < 10; i++) {
+            String expected = first.resolve(Values.class).toString();
+            String actual = second.resolve(Values.class).toString();
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    void default_source_is_reused_by_context(ResolutionContext context) {
+        RandomSource first = context.resolve(RandomSource.class);
+        RandomSource second = context.resolve(RandomSource.class);
+
+        assertThat(first).isSameAs(second);
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    void seeded_sequence_continues_after_customization(long seed) {
+        ResolutionContext expected = new ResolutionContext();
+        expected.applyCustomizer(new RandomSourceProvider(seed));
+        ResolutionContext sut = new ResolutionContext();
+        sut.applyCustomizer(new RandomSourceProvider(seed));
+        assertThat(sut.resolve(Values.class).toString())
+            .isEqualTo(expected.resolve(Values.class).toString());
+
+        sut.applyCustomizer((query, context) -> ObjectContainer.EMPTY);
+        String actual = sut.resolve(Values.class).toString();
+
+        assertThat(actual).isEqualTo(expected.resolve(Values.class).toString());
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    void new_provider_restarts_seeded_sequence(long seed) {
+        ResolutionContext sut = new ResolutionContext();
+        sut.applyCustomizer(new RandomSourceProvider(seed));
+        String first = sut.resolve(Values.class).toString();
+
+        sut.applyCustomizer(new RandomSourceProvider(seed));
+        String actual = sut.resolve(Values.class).toString();
+
+        assertThat(actual).isEqualTo(first);
+    }
+}
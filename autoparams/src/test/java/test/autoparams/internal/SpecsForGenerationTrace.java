@@ -0,0 +1,64 @@
+package test.autoparams.internal;
+
+import autoparams.generator.ObjectContainer;
+import autoparams.generator.ObjectGenerator;
+import autoparams.internal.GenerationTrace;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpecsForGenerationTrace {
+
+    private static ObjectGenerator createGenerator() {
+        return (query, context) -> ObjectContainer.EMPTY;
+    }
+
+    @Test
+    void capture_returns_first_reported_generator() {
+        ObjectGenerator first = createGenerator();
+        ObjectGenerator second = createGenerator();
+
+        GenerationTrace sut = GenerationTrace.capture();
+        GenerationTrace.onGenerated(first);
+        GenerationTrace.onGenerated(second);
+
+        assertThat(sut.stop()).isSameAs(first);
+    }
+
+    @Test
+    void capture_returns_null_if_no_generator_is_reported() {
+        GenerationTrace sut = GenerationTrace.capture();
+
+        assertThat(sut.stop()).isNull();
+    }
+
+    @Test
+    void capture_restores_enclosing_trace_when_stopped() {
+        ObjectGenerator inner = createGenerator();
+        ObjectGenerator outer = createGenerator();
+
+        GenerationTrace enclosing = GenerationTrace.capture();
+        GenerationTrace sut = GenerationTrace.capture();
+        GenerationTrace.onGenerated(inner);
+        ObjectGenerator actual = sut.stop();
+        GenerationTrace.onGenerated(outer);
+
+        assertThat(actual).isSameAs(inner);
+        assertThat(enclosing.stop()).isSameAs(outer);
+    }
+
+    @Test
+    void capture_records_report_in_started_trace() {
+        ObjectGenerator inner = createGenerator();
+        ObjectGenerator outer = createGenerator();
+
+        GenerationTrace capture = GenerationTrace.capture();
+        GenerationTrace sut = GenerationTrace.start();
+        GenerationTrace.onGenerated(inner);
+        ObjectGenerator actual = sut.stop();
+        GenerationTrace.onGenerated(outer);
+
+        assertThat(actual).isSameAs(inner);
+        assertThat(capture.stop()).isSameAs(outer);
+    }
+}
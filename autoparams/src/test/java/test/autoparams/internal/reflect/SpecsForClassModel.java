@@ -0,0 +1,121 @@
+package test.autoparams.internal.reflect;
+
+import java.beans.ConstructorProperties;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Optional;
+
+import autoparams.internal.reflect.ClassModel;
+import org.junit.jupiter.api.Test;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SpecsForClassModel {
+
+    public static class Bean {
+
+        private static int counter;
+
+        private int number;
+        private String text;
+
+        public Bean() {
+        }
+
+        @ConstructorProperties({ "number", "text" })
+        public Bean(int number, String text) {
+            this.number = number;
+            this.text = text;
+        }
+
+        public int getNumber() {
+            return number;
+        }
+
+        public void setNumber(int number) {
+            this.number = number;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public void setText(String text) {
+            this.text = text;
+        }
+    }
+
+    @Test
+    void of_returns_same_model_for_same_class() {
+        assertThat(ClassModel.of(Bean.class)).isSameAs(ClassModel.of(Bean.class));
+    }
+
+    @Test
+    void getConstructors_returns_same_list_on_every_call() {
+        ClassModel sut = ClassModel.of(Bean.class);
+
+        List<Constructor<?>> actual = sut.getConstructors();
+
+        assertThat(actual).hasSize(2);
+        assertThat(sut.getConstructors()).isSameAs(actual);
+    }
+
+    @Test
+    void getConstructors_returns_unmodifiable_list() {
+        List<Constructor<?>> actual =
+            ClassModel.of(Bean.class).getConstructors();
+
+        assertThatThrownBy(actual::clear)
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void getInstanceFields_excludes_static_fields() {
+        List<Field> actual = ClassModel.of(Bean.class).getInstanceFields();
+
+        List<String> names = actual.stream().map(Field::getName).collect(toList());
+        assertThat(names).containsOnly("number", "text");
+    }
+
+    @Test
+    void getProperties_returns_bean_properties() {
+        List<PropertyDescriptor> actual =
+            ClassModel.of(Bean.class).getProperties();
+
+        List<String> names = actual
+            .stream()
+            .filter(property -> property.getWriteMethod() != null)
+            .map(PropertyDescriptor::getName)
+            .collect(toList());
+        assertThat(names).containsOnly("number", "text");
+    }
+
+    @Test
+    void getConstructorProperties_returns_declared_names() throws Exception {
+        Constructor<?> constructor =
+            Bean.class.getConstructor(int.class, String.class);
+
+        Optional<List<String>> actual = ClassModel
+            .of(Bean.class)
+            .getConstructorProperties(constructor);
+
+        assertThat(actual.isPresent()).isTrue();
+        assertThat(actual.get()).containsExactly("number", "text");
+    }
+
+    @Test
+    void getConstructorProperties_returns_empty_for_unannotated_constructor()
+        throws Exception {
+        Constructor<?> constructor = Bean.class.getConstructor();
+
+        Optional<List<String>> actual = ClassModel
+            .of(Bean.class)
+            .getConstructorProperties(constructor);
+
+        assertThat(actual.isPresent()).isFalse();
+    }
+}
@@ -0,0 +1,94 @@
+package test.autoparams.internal.reflect;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import autoparams.internal.reflect.ConstructorInvoker;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SpecsForConstructorInvoker {
+
+    public static class Point {
+
+        private final long x;
+        private final String label;
+
+        public Point(long x, String label) {
+            if (x < 0) {
+                throw new IllegalArgumentException("x is negative.");
+            }
+
+            this.x = x;
+            this.label = label;
+        }
+
+        public long getX() {
+            return x;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private static ConstructorInvoker getInvoker() throws Exception {
+        Constructor<Point> constructor =
+            Point.class.getConstructor(long.class, String.class);
+        return ConstructorInvoker.get(constructor);
+    }
+
+    @Test
+    void newInstance_invokes_constructor() throws Exception {
+        ConstructorInvoker sut = getInvoker();
+
+        Object actual = sut.newInstance(new Object[] { 1L, "one" });
+
+        assertThat(actual).isInstanceOf(Point.class);
+        assertThat(((Point) actual).getLabel()).isEqualTo("one");
+    }
+
+    @Test
+    void newInstance_widens_primitive_arguments() throws Exception {
+        ConstructorInvoker sut = getInvoker();
+
+        Object actual = sut.newInstance(new Object[] { 2, null });
+
+        assertThat(((Point) actual).getX()).isEqualTo(2L);
+    }
+
+    @Test
+    void newInstance_wraps_exception_thrown_by_constructor() throws Exception {
+        ConstructorInvoker sut = getInvoker();
+
+        assertThatThrownBy(() -> sut.newInstance(new Object[] { -1L, "" }))
+            .isExactlyInstanceOf(InvocationTargetException.class)
+            .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void newInstance_rejects_argument_of_wrong_type() throws Exception {
+        ConstructorInvoker sut = getInvoker();
+
+        assertThatThrownBy(() -> sut.newInstance(new Object[] { 1L, 1 }))
+            .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void newInstance_rejects_null_for_primitive_parameter() throws Exception {
+        ConstructorInvoker sut = getInvoker();
+
+        assertThatThrownBy(() -> sut.newInstance(new Object[] { null, "" }))
+            .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void newInstance_rejects_wrong_number_of_arguments() throws Exception {
+        ConstructorInvoker sut = getInvoker();
+
+        assertThatThrownBy(() -> sut.newInstance(new Object[] { 1L }))
+            .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
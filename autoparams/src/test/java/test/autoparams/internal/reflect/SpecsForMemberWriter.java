@@ -0,0 +1,91 @@
+package test.autoparams.internal.reflect;
+
+import java.lang.reflect.InvocationTargetException;
+
+import autoparams.internal.reflect.MemberWriter;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SpecsForMemberWriter {
+
+    public static class Bag {
+
+        public int count;
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("name is empty.");
+            }
+
+            this.name = name;
+        }
+    }
+
+    private static MemberWriter getFieldWriter() throws Exception {
+        return MemberWriter.get(Bag.class.getField("count"));
+    }
+
+    private static MemberWriter getSetterWriter() throws Exception {
+        return MemberWriter.get(Bag.class.getMethod("setName", String.class));
+    }
+
+    @Test
+    void write_sets_field() throws Exception {
+        Bag bag = new Bag();
+        MemberWriter sut = getFieldWriter();
+
+        sut.write(bag, 3);
+
+        assertThat(bag.count).isEqualTo(3);
+    }
+
+    @Test
+    void write_invokes_setter() throws Exception {
+        Bag bag = new Bag();
+        MemberWriter sut = getSetterWriter();
+
+        sut.write(bag, "bag");
+
+        assertThat(bag.getName()).isEqualTo("bag");
+    }
+
+    @Test
+    void write_wraps_exception_thrown_by_setter() throws Exception {
+        MemberWriter sut = getSetterWriter();
+
+        assertThatThrownBy(() -> sut.write(new Bag(), ""))
+            .isExactlyInstanceOf(InvocationTargetException.class)
+            .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void write_rejects_value_of_wrong_type() throws Exception {
+        MemberWriter sut = getSetterWriter();
+
+        assertThatThrownBy(() -> sut.write(new Bag(), 1))
+            .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void write_rejects_null_for_primitive_field() throws Exception {
+        MemberWriter sut = getFieldWriter();
+
+        assertThatThrownBy(() -> sut.write(new Bag(), null))
+            .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void write_rejects_target_of_wrong_type() throws Exception {
+        MemberWriter sut = getFieldWriter();
+
+        assertThatThrownBy(() -> sut.write(new Object(), 1))
+            .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,121 @@
+package test.autoparams.internal.reflect;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+import autoparams.internal.reflect.RuntimeTypeResolver;
+import autoparams.type.TypeReference;
+import org.junit.jupiter.api.Test;
+import test.autoparams.IsolatingClassLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SpecsForRuntimeTypeResolver {
+
+    public static class Holder<T> {
+
+        public List<T> values;
+        public Map<String, List<T>> groups;
+    }
+
+    public static class Other<U> {
+
+        public List<U> items;
+    }
+
+    public static class Isolated {
+
+        public Holder<Isolated> holder;
+    }
+
+    private static Type getFieldType(String name) throws Exception {
+        return Holder.class.getField(name).getGenericType();
+    }
+
+    @Test
+    void create_returns_same_resolver_for_equal_root_types() {
+        Type first = new TypeReference<Holder<Integer>>() { }.getType();
+        Type second = new TypeReference<Holder<Integer>>() { }.getType();
+
+        RuntimeTypeResolver actual = RuntimeTypeResolver.create(first);
+
+        assertThat(RuntimeTypeResolver.create(second)).isSameAs(actual);
+    }
+
+    @Test
+    void resolve_substitutes_type_arguments() throws Exception {
+        Type rootType = new TypeReference<Holder<Integer>>() { }.getType();
+        RuntimeTypeResolver sut = RuntimeTypeResolver.create(rootType);
+
+        Type actual = sut.resolve(getFieldType("groups"));
+
+        Type expected = new TypeReference<Map<String, List<Integer>>>() { }
+            .getType();
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    void resolve_returns_same_instance_for_same_type() throws Exception {
+        Type rootType = new TypeReference<Holder<Integer>>() { }.getType();
+        RuntimeTypeResolver sut = RuntimeTypeResolver.create(rootType);
+
+        Type actual = sut.resolve(getFieldType("values"));
+
+        assertThat(sut.resolve(getFieldType("values"))).isSameAs(actual);
+    }
+
+    @Test
+    void resolve_interns_equal_types_across_resolvers() throws Exception {
+        RuntimeTypeResolver first = RuntimeTypeResolver.create(
+            new TypeReference<Holder<Long>>() { }.getType()
+        );
+        RuntimeTypeResolver second = RuntimeTypeResolver.create(
+            new TypeReference<Other<Long>>() { }.getType()
+        );
+
+        Type actual = first.resolve(getFieldType("values"));
+
+        Type items = Other.class.getField("items").getGenericType();
+        assertThat(second.resolve(items)).isSameAs(actual);
+    }
+
+    @Test
+    void resolve_widens_unbound_type_variable() throws Exception {
+        RuntimeTypeResolver sut = RuntimeTypeResolver.create(Holder.class);
+
+        Type actual = sut.resolve(getFieldType("values"));
+
+        assertThat(actual).isEqualTo(
+            new TypeReference<List<Object>>() { }.getType()
+        );
+    }
+
+    @Test
+    void sut_does_not_keep_class_loader_of_type_arguments_alive()
+        throws Exception {
+
+        WeakReference<ClassLoader> loader = resolveIsolatedType();
+
+        for (int i = 0; i < 100 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertThat(loader.get()).isNull();
+    }
+
+    private static WeakReference<ClassLoader> resolveIsolatedType()
+        throws Exception {
+
+        ClassLoader loader = new IsolatingClassLoader(Isolated.class);
+        Class<?> isolated = loader.loadClass(Isolated.class.getName());
+        Type rootType = isolated.getField("holder").getGenericType();
+
+        RuntimeTypeResolver.create(rootType).resolve(getFieldType("values"));
+
+        return new WeakReference<>(loader);
+    }
+}
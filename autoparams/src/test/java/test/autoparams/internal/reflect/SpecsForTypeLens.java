@@ -0,0 +1,90 @@
+package test.autoparams.internal.reflect;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
+import java.util.Comparator;
+import java.util.function.Supplier;
+
+import autoparams.internal.reflect.TypeLens;
+import autoparams.type.TypeReference;
+import org.junit.jupiter.api.Test;
+import test.autoparams.IsolatingClassLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SpecsForTypeLens {
+
+    public static class StringSupplier implements Supplier<String> {
+
+        @Override
+        public String get() {
+            return "";
+        }
+    }
+
+    public static class Isolated {
+
+        public Supplier<Isolated> supplier;
+    }
+
+    @Test
+    void implementsInterface_returns_true_for_implemented_interface() {
+        TypeLens sut = new TypeLens(StringSupplier.class);
+
+        assertThat(sut.implementsInterface(Supplier.class)).isTrue();
+    }
+
+    @Test
+    void implementsInterface_returns_true_for_matching_parameterized_interface() {
+        TypeLens sut = new TypeLens(StringSupplier.class);
+        Type type = new TypeReference<Supplier<String>>() { }.getType();
+
+        assertThat(sut.implementsInterface(type)).isTrue();
+        assertThat(sut.implementsInterface(type)).isTrue();
+    }
+
+    @Test
+    void implementsInterface_returns_false_for_non_matching_type_arguments() {
+        TypeLens sut = new TypeLens(StringSupplier.class);
+        Type type = new TypeReference<Supplier<Integer>>() { }.getType();
+
+        assertThat(sut.implementsInterface(type)).isFalse();
+        assertThat(sut.implementsInterface(type)).isFalse();
+    }
+
+    @Test
+    void implementsInterface_returns_false_for_other_types() {
+        TypeLens sut = new TypeLens(StringSupplier.class);
+
+        assertThat(sut.implementsInterface(Comparator.class)).isFalse();
+        assertThat(sut.implementsInterface(String.class)).isFalse();
+        assertThat(sut.implementsInterface(int.class)).isFalse();
+    }
+
+    @Test
+    void implementsInterface_does_not_keep_class_loader_of_type_alive()
+        throws Exception {
+
+        WeakReference<ClassLoader> loader = inspectIsolatedType();
+
+        for (int i = 0; i < 100 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertThat(loader.get()).isNull();
+    }
+
+    private static WeakReference<ClassLoader> inspectIsolatedType()
+        throws Exception {
+
+        ClassLoader loader = new IsolatingClassLoader(Isolated.class);
+        Class<?> isolated = loader.loadClass(Isolated.class.getName());
+        Type type = isolated.getField("supplier").getGenericType();
+        TypeLens sut = new TypeLens(StringSupplier.class);
+
+        assertThat(sut.implementsInterface(type)).isFalse();
+
+        return new WeakReference<>(loader);
+    }
+}
@@ -1,10 +1,16 @@
 package test.autoparams.processor;
 
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
+
+import autoparams.DefaultObjectQuery;
 import autoparams.ResolutionContext;
 import autoparams.customization.CompositeCustomizer;
 import autoparams.customization.Customization;
 import autoparams.processor.InstanceFieldWriter;
+import org.junit.jupiter.api.Test;
 import test.autoparams.AutoParameterizedTest;
+import test.autoparams.IsolatingClassLoader;
 import test.autoparams.customization.Entity;
 import test.autoparams.customization.Inventory;
 import test.autoparams.customization.Operator;
@@ -34,6 +40,16 @@ public class SpecsForInstanceFieldWriter {
         }
     }
 
+    public static class Labeled<T> {
+
+        private String label;
+    }
+
+    public static class Isolated {
+
+        public Labeled<Isolated> labeled;
+    }
+
     @AutoParameterizedTest
     @Customization(DomainCustomizer.class)
     void sut_sets_fields(Versioned versioned) {
@@ -108,4 +124,74 @@ public class SpecsForInstanceFieldWriter {
         assertNull(actual.getPhoneNumber());
         assertEquals(0, actual.getActiveWorks());
     }
+
+    @AutoParameterizedTest
+    void including_intersects_repeated_conditions(ResolutionContext context) {
+        // Arrange
+        InstanceFieldWriter sut = new InstanceFieldWriter(Operator.class)
+            .including("teamName", "phoneNumber")
+            .including("phoneNumber");
+
+        context.applyCustomizer(sut);
+
+        // Act
+        Operator actual = context.resolve(Operator.class);
+
+        // Assert
+        assertNull(actual.getTeamName());
+        assertNotNull(actual.getPhoneNumber());
+    }
+
+    @Test
+    void sut_applies_field_selection_of_each_writer() {
+        // Arrange
+        ResolutionContext context1 = new ResolutionContext();
+        context1.applyCustomizer(
+            new InstanceFieldWriter(Operator.class).including("teamName")
+        );
+        ResolutionContext context2 = new ResolutionContext();
+        context2.applyCustomizer(
+            new InstanceFieldWriter(Operator.class).excluding("teamName")
+        );
+
+        // Act
+        Operator actual1 = context1.resolve(Operator.class);
+        Operator actual2 = context2.resolve(Operator.class);
+
+        // Assert
+        assertNotNull(actual1.getTeamName());
+        assertNull(actual1.getPhoneNumber());
+        assertNull(actual2.getTeamName());
+        assertNotNull(actual2.getPhoneNumber());
+    }
+
+    @Test
+    void sut_does_not_keep_class_loader_of_type_arguments_alive()
+        throws Exception {
+
+        WeakReference<ClassLoader> loader = processIsolatedType();
+
+        for (int i = 0; i < 100 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertNull(loader.get());
+    }
+
+    private static WeakReference<ClassLoader> processIsolatedType()
+        throws Exception {
+
+        ClassLoader loader = new IsolatingClassLoader(Isolated.class);
+        Class<?> isolated = loader.loadClass(Isolated.class.getName());
+        Type type = isolated.getField("labeled").getGenericType();
+
+        new InstanceFieldWriter(Labeled.class).process(
+            new DefaultObjectQuery(type),
+            new Labeled<>(),
+            new ResolutionContext()
+        );
+
+        return new WeakReference<>(loader);
+    }
 }
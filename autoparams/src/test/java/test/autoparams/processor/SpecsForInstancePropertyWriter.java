@@ -1,5 +1,8 @@
 package test.autoparams.processor;
 
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
+
 import autoparams.AutoSource;
 import autoparams.DefaultObjectQuery;
 import autoparams.ResolutionContext;
@@ -7,8 +10,10 @@ import autoparams.processor.InstancePropertyWriter;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import test.autoparams.HasSetter;
+import test.autoparams.IsolatingClassLoader;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -25,6 +30,23 @@ class SpecsForInstancePropertyWriter {
         assertThat(bag.getValue()).isNotNull();
     }
 
+    @ParameterizedTest
+    @AutoSource
+    void sut_sets_property_of_every_processed_instance(
+        InstancePropertyWriter sut,
+        ResolutionContext context
+    ) {
+        HasSetter first = new HasSetter();
+        HasSetter second = new HasSetter();
+
+        sut.process(new DefaultObjectQuery(HasSetter.class), first, context);
+        sut.process(new DefaultObjectQuery(HasSetter.class), second, context);
+
+        assertThat(first.getValue()).isNotNull();
+        assertThat(second.getValue()).isNotNull();
+        assertThat(second.getValue()).isNotEqualTo(first.getValue());
+    }
+
     @ParameterizedTest
     @AutoSource
     void sut_sets_property_value_using_chaining_setter(
@@ -68,4 +90,46 @@ class SpecsForInstancePropertyWriter {
 
         private Double discount;
     }
+
+    @Getter
+    @Setter
+    public static class Labeled<T> {
+
+        private String label;
+    }
+
+    public static class Isolated {
+
+        public Labeled<Isolated> labeled;
+    }
+
+    @Test
+    void sut_does_not_keep_class_loader_of_type_arguments_alive()
+        throws Exception {
+
+        WeakReference<ClassLoader> loader = processIsolatedType();
+
+        for (int i = 0; i < 100 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertThat(loader.get()).isNull();
+    }
+
+    private static WeakReference<ClassLoader> processIsolatedType()
+        throws Exception {
+
+        ClassLoader loader = new IsolatingClassLoader(Isolated.class);
+        Class<?> isolated = loader.loadClass(Isolated.class.getName());
+        Type type = isolated.getField("labeled").getGenericType();
+
+        new InstancePropertyWriter().process(
+            new DefaultObjectQuery(type),
+            new Labeled<>(),
+            new ResolutionContext()
+        );
+
+        return new WeakReference<>(loader);
+    }
 }
@@ -1,6 +1,7 @@
 rootProject.name = "AutoParams"
 
 include("autoparams")
+include("autoparams-benchmarks")
 include("autoparams-kotlin")
 include("autoparams-lombok")
 include("autoparams-mockito")
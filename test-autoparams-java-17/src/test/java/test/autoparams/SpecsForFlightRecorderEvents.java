@@ -0,0 +1,98 @@
+package test.autoparams;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import autoparams.ResolutionContext;
+import autoparams.generator.RandomSourceProvider;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpecsForFlightRecorderEvents {
+
+    public record Address(String street, String city) {
+    }
+
+    public record User(UUID id, Address address) {
+    }
+
+    private static List<RecordedEvent> record(
+        String eventName,
+        Runnable action
+    ) throws Exception {
+        Path file = Files.createTempFile("autoparams", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(Duration.ZERO);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void resolve_emits_event_for_each_resolution() throws Exception {
+        ResolutionContext context = new ResolutionContext();
+
+        List<RecordedEvent> events = record(
+            "autoparams.Resolve",
+            () -> context.resolve(User.class)
+        );
+
+        List<String> queryTypes = events
+            .stream()
+            .map(event -> event.getString("queryType"))
+            .collect(toList());
+        assertThat(queryTypes)
+            .contains(User.class.getTypeName(), Address.class.getTypeName());
+    }
+
+    @Test
+    void resolve_event_has_depth_and_generator() throws Exception {
+        ResolutionContext context = new ResolutionContext();
+
+        List<RecordedEvent> events = record(
+            "autoparams.Resolve",
+            () -> context.resolve(User.class)
+        );
+
+        RecordedEvent root = events
+            .stream()
+            .filter(e -> e.getString("queryType").equals(User.class.getTypeName()))
+            .findFirst()
+            .orElseThrow();
+        RecordedEvent nested = events
+            .stream()
+            .filter(e -> e.getString("queryType").equals(Address.class.getTypeName()))
+            .findFirst()
+            .orElseThrow();
+        assertThat(root.getInt("depth")).isEqualTo(0);
+        assertThat(nested.getInt("depth")).isEqualTo(1);
+        assertThat(root.getClass("generator")).isNotNull();
+    }
+
+    @Test
+    void applyCustomizer_emits_event() throws Exception {
+        ResolutionContext context = new ResolutionContext();
+
+        List<RecordedEvent> events = record(
+            "autoparams.Customization",
+            () -> context.applyCustomizer(new RandomSourceProvider(1))
+        );
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getClass("customizer").getName())
+            .isEqualTo(RandomSourceProvider.class.getName());
+    }
+}
@@ -1,5 +1,8 @@
 package test.autoparams;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import autoparams.AutoParams;
 import autoparams.ResolutionContext;
 import org.junit.jupiter.api.Test;
@@ -81,4 +84,23 @@ class SpecsForSealedTypes {
             );
         }).doesNotThrowAnyException();
     }
+
+    @Test
+    @AutoParams
+    void sut_selects_every_concrete_subclass_of_a_nested_sealed_hierarchy(
+        ResolutionContext context
+    ) {
+        Set<Class<?>> types = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            Vehicle vehicle = context.resolve();
+            types.add(vehicle.getClass());
+        }
+
+        assertThat(types).containsExactlyInAnyOrder(
+            Car.class,
+            Motorcycle.class,
+            Ship.class,
+            Submarine.class
+        );
+    }
 }
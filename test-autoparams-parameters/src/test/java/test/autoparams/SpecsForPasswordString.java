@@ -0,0 +1,40 @@
+package test.autoparams;
+
+import autoparams.AutoSource;
+import autoparams.generator.UseSecureRandom;
+import org.junit.jupiter.params.ParameterizedTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SpecsForPasswordString {
+
+    @ParameterizedTest
+    @AutoSource
+    void sut_generates_password_containing_all_character_sets(
+        String password
+    ) {
+        assertThat(password).hasSize(20);
+        assertThat(password).matches(".*[A-Z].*");
+        assertThat(password).matches(".*[a-z].*");
+        assertThat(password).matches(".*[0-9].*");
+        assertThat(password).matches(".*[^A-Za-z0-9].*");
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    @UseSecureRandom
+    void sut_generates_password_with_secure_random_source(String password) {
+        assertThat(password).hasSize(20);
+        assertThat(password).matches(".*[A-Z].*");
+        assertThat(password).matches(".*[a-z].*");
+        assertThat(password).matches(".*[0-9].*");
+        assertThat(password).matches(".*[^A-Za-z0-9].*");
+    }
+
+    @ParameterizedTest
+    @AutoSource
+    void sut_generates_string_starting_with_parameter_name(String userName) {
+        assertThat(userName).startsWith("userName");
+        assertThat(userName).hasSize("userName".length() + 36);
+    }
+}